@@ -0,0 +1,67 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.analysis.BulkScorer;
+import com.f8software.bowling.analysis.ScoreSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BulkScorer} summarising a million random games with different
+ * numbers of threads, to check the scoring scales with the cores available.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkScorerBenchmark {
+    private static final int GAMES = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    int[] bowls;
+    int[] offsets;
+    BulkScorer scorer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        bowls = new int[GAMES * 21];
+        offsets = new int[GAMES + 1];
+        int count = 0;
+        for (int game = 0; game < GAMES; game++) {
+            offsets[game] = count;
+            for (int bowl : GameType.RANDOM.bowls(random)) {
+                bowls[count++] = bowl;
+            }
+        }
+        offsets[GAMES] = count;
+        scorer = new BulkScorer(parallelism, BulkScorer.DEFAULT_CHUNK_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scorer.close();
+    }
+
+    @Benchmark
+    public ScoreSummary summarise() {
+        return scorer.summarise(bowls, offsets);
+    }
+}
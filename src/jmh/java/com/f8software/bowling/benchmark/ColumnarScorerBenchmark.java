@@ -0,0 +1,74 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.analysis.ColumnarScorer;
+import com.f8software.bowling.analysis.GameColumns;
+import com.f8software.bowling.model.Scorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the final scores of a million random games on a single thread, scored
+ * column-wise by {@link ColumnarScorer} and one game at a time by {@link Scorer}.
+ *
+ * Run with -jvmArgsAppend -XX:-UseSuperWord to see how much of the columnar time comes from the
+ * JIT compiler's auto-vectorization, or with -prof perfasm to check the loops were vectorized.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnarScorerBenchmark {
+    private static final int GAMES = 1_000_000;
+
+    int[] bowls;
+    int[] offsets;
+    GameColumns columns;
+    int[] scores = new int[10];
+    int[] finalScores = new int[GAMES];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        bowls = new int[GAMES * 21];
+        offsets = new int[GAMES + 1];
+        columns = new GameColumns(GAMES);
+        int count = 0;
+        for (int game = 0; game < GAMES; game++) {
+            offsets[game] = count;
+            for (int bowl : GameType.RANDOM.bowls(random)) {
+                bowls[count++] = bowl;
+            }
+            columns.add(bowls, offsets[game], count);
+        }
+        offsets[GAMES] = count;
+    }
+
+    @Benchmark
+    public int[] columnar() {
+        ColumnarScorer.finalScores(columns, finalScores);
+        return finalScores;
+    }
+
+    @Benchmark
+    public int[] rowWise() {
+        for (int game = 0; game < GAMES; game++) {
+            int frames = Scorer.score(bowls, offsets[game], offsets[game + 1], scores, 0);
+            finalScores[game] = scores[frames - 1];
+        }
+        return finalScores;
+    }
+}
@@ -0,0 +1,52 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The shapes of game used by the benchmarks. Each type produces the bowls for a
+ * complete game of ten Frames.
+ */
+public enum GameType {
+    PERFECT, ALL_SPARE, GUTTER, RANDOM;
+
+    /**
+     * Returns the bowls for a complete game of this type
+     * @param random used by {@link #RANDOM} games to pick the pins knocked down
+     * @return the bowls in the order they are played
+     */
+    public int[] bowls(Random random) {
+        return switch (this) {
+            case PERFECT -> filled(12, 10);
+            case ALL_SPARE -> filled(21, 5);
+            case GUTTER -> filled(20, 0);
+            case RANDOM -> randomGame(random);
+        };
+    }
+
+    private static int[] filled(int count, int bowl) {
+        int[] bowls = new int[count];
+        Arrays.fill(bowls, bowl);
+        return bowls;
+    }
+
+    /**
+     * Plays a game with random bowls, re-rolling any that the player rejects
+     */
+    private static int[] randomGame(Random random) {
+        Player player = new Player();
+        int[] bowls = new int[21];
+        int count = 0;
+        while (player.getFrames().size() < 10
+                || player.getFrames().get(9).getStatus() != Frame.FrameState.COMPLETE) {
+            int bowl = random.nextInt(11);
+            if (player.addBowl(bowl)) {
+                bowls[count++] = bowl;
+            }
+        }
+        return Arrays.copyOf(bowls, count);
+    }
+}
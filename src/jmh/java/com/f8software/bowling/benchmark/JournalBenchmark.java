@@ -0,0 +1,118 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.persistence.GameJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks the {@link GameJournal} - the throughput of journaling whole games, each removed once
+ * it is over, with different group commit batch sizes, and the time to recover ten thousand games
+ * from a snapshot and a log holding the same number of bowls again.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+    private static final int RECOVERY_GAMES = 10_000;
+
+    @State(Scope.Thread)
+    public static class AppendState {
+        @Param({"1", "64", "1024"})
+        int commitBowls;
+
+        Path directory;
+        GameJournal journal;
+        int[] bowls;
+        long nextGame;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal");
+            journal = GameJournal.open(directory, commitBowls, 10, 0);
+            bowls = GameType.RANDOM.bowls(new Random(42));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("recovery");
+            Random random = new Random(42);
+            try (GameJournal journal = GameJournal.open(directory, 1024, 10, 0)) {
+                for (int game = 0; game < RECOVERY_GAMES * 2; game++) {
+                    if (game == RECOVERY_GAMES) {
+                        journal.snapshot();
+                    }
+                    Player player = journal.newGame(game);
+                    for (int bowl : GameType.RANDOM.bowls(random)) {
+                        player.addBowl(bowl);
+                    }
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Player journalGame(AppendState state) {
+        long id = state.nextGame++;
+        Player player = state.journal.newGame(id);
+        for (int bowl : state.bowls) {
+            player.addBowl(bowl);
+        }
+        // Removing each game once it is over keeps the journal, and the heap, from growing
+        state.journal.removeGame(id);
+        return player;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int recover(RecoveryState state) throws IOException {
+        // Opening the journal recovers every game, closing it without adding bowls leaves it unchanged
+        try (GameJournal journal = GameJournal.open(state.directory, 1024, 10_000, 0)) {
+            return journal.getGames().size();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.metrics.BowlingMetrics;
+import com.f8software.bowling.metrics.LatencyHistogram;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.render.Renderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link BowlingMetrics} - a whole game played and rendered after each bowl
+ * with and without metrics, a single histogram recording and a Prometheus dump.
+ * Compare playGame with playGameWithMetrics to see the cost of measuring a game, with the default
+ * sampling most of it is the counters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    @Param({"PERFECT", "RANDOM"})
+    GameType gameType;
+
+    int[] bowls;
+    BowlingMetrics metrics;
+    Renderer renderer;
+    Renderer timedRenderer;
+    LatencyHistogram histogram;
+    long value;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        bowls = gameType.bowls(new Random(42));
+        metrics = new BowlingMetrics();
+        renderer = blackhole::consume;
+        timedRenderer = metrics.timed(renderer);
+        histogram = new LatencyHistogram();
+        Player player = metrics.instrument(new Player());
+        for (int bowl : bowls) {
+            player.addBowl(bowl);
+        }
+    }
+
+    @Benchmark
+    public Player playGame() {
+        return play(new Player(), renderer);
+    }
+
+    @Benchmark
+    public Player playGameWithMetrics() {
+        return play(metrics.instrument(new Player()), timedRenderer);
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        histogram.record(value++ & 0xFFFFF);
+    }
+
+    @Benchmark
+    public String prometheusDump() {
+        return metrics.toPrometheus();
+    }
+
+    private Player play(Player player, Renderer renderer) {
+        for (int bowl : bowls) {
+            player.addBowl(bowl);
+            renderer.render(player);
+        }
+        return player;
+    }
+}
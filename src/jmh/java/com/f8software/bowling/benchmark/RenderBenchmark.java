@@ -0,0 +1,98 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.render.ByteBufferRenderer;
+import com.f8software.bowling.render.StandardOutRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link StandardOutRenderer#render(Player)} and {@link ByteBufferRenderer#render(Player)}
+ * for a finished game. Standard out is replaced with a stream, and the ByteBufferRenderer given a channel,
+ * that discard the output so only the cost of building the scorecard is measured.
+ * Run with -prof gc to check the ByteBufferRenderer creates no garbage.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    @Param({"PERFECT", "ALL_SPARE", "GUTTER", "RANDOM"})
+    GameType gameType;
+
+    Player player;
+    StandardOutRenderer renderer;
+    ByteBufferRenderer byteBufferRenderer;
+    PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = new Player();
+        for (int bowl : gameType.bowls(new Random(42))) {
+            player.addBowl(bowl);
+        }
+        renderer = new StandardOutRenderer();
+        byteBufferRenderer = new ByteBufferRenderer(new DiscardingChannel());
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public Player render() {
+        renderer.render(player);
+        return player;
+    }
+
+    @Benchmark
+    public Player byteBufferRender() {
+        byteBufferRenderer.render(player);
+        return player;
+    }
+
+    /**
+     * A channel that accepts and discards everything written to it
+     */
+    static class DiscardingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int written = src.remaining();
+            src.position(src.limit());
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
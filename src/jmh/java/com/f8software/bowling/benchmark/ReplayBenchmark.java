@@ -0,0 +1,70 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.replay.RollLogReader;
+import com.f8software.bowling.replay.RollLogWriter;
+import com.f8software.bowling.replay.ScorecardRebuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks replaying a roll log of a million random games, both reading the bowls alone
+ * and rebuilding the scorecards into a GameStore.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+    private static final int GAMES = 1_000_000;
+
+    Path log;
+    RollLogReader reader = new RollLogReader();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        log = Files.createTempFile("rolls", ".log");
+        Random random = new Random(42);
+        try (RollLogWriter writer = new RollLogWriter(log)) {
+            for (int game = 0; game < GAMES; game++) {
+                int[] bowls = GameType.RANDOM.bowls(random);
+                writer.write(game % 48, game, bowls, 0, bowls.length);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(log);
+    }
+
+    @Benchmark
+    public long readBowls(Blackhole blackhole) throws IOException {
+        return reader.replay(log, (lane, game, bowl) -> blackhole.consume(bowl));
+    }
+
+    @Benchmark
+    public ScorecardRebuilder rebuildScorecards() throws IOException {
+        ScorecardRebuilder rebuilder = new ScorecardRebuilder();
+        reader.replay(log, rebuilder);
+        return rebuilder;
+    }
+}
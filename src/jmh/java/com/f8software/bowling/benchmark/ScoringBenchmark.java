@@ -0,0 +1,102 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.Scorer;
+import com.f8software.bowling.model.TableScorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the scoring hot paths - a whole game played through {@link Player#addBowl(int)}
+ * with and without a {@link com.f8software.bowling.model.BowlListener},
+ * a full {@link Player#updateScores()} of a finished game, a Frame played through {@link Frame#addBowl(int)}
+ * and a whole game scored in one call to {@link Scorer} or the table driven {@link TableScorer}.
+ *
+ * Run with -prof gc to also report the allocation rate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoringBenchmark {
+
+    @Param({"PERFECT", "ALL_SPARE", "GUTTER", "RANDOM"})
+    GameType gameType;
+
+    int[] bowls;
+    int[] scores = new int[10];
+    Player finished;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bowls = gameType.bowls(new Random(42));
+        finished = new Player();
+        for (int bowl : bowls) {
+            finished.addBowl(bowl);
+        }
+    }
+
+    @Benchmark
+    public Player playerAddBowl() {
+        Player player = new Player();
+        for (int bowl : bowls) {
+            player.addBowl(bowl);
+        }
+        return player;
+    }
+
+    @Benchmark
+    public Player playerAddBowlWithListener(Blackhole blackhole) {
+        Player player = new Player();
+        player.addBowlListener((p, event) -> blackhole.consume(event));
+        for (int bowl : bowls) {
+            player.addBowl(bowl);
+        }
+        return player;
+    }
+
+    @Benchmark
+    public Player playerUpdateScores() {
+        finished.updateScores();
+        return finished;
+    }
+
+    @Benchmark
+    public Frame frameAddBowl() {
+        Frame frame = new Frame();
+        frame.addBowl(bowls[0]);
+        if (frame.getStatus() != Frame.FrameState.COMPLETE) {
+            frame.addBowl(bowls[1]);
+        }
+        return frame;
+    }
+
+    @Benchmark
+    public int[] scorerScore() {
+        Scorer.score(bowls, 0, bowls.length, scores, 0);
+        return scores;
+    }
+
+    @Benchmark
+    public int[] tableScorerScore() {
+        TableScorer.score(bowls, 0, bowls.length, scores, 0);
+        return scores;
+    }
+}
@@ -0,0 +1,108 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.server.ScoringServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the {@link ScoringServer} under load from several client threads, each playing its own
+ * all spare games bowl by bowl and reading the scorecard after every bowl. One operation is a bowl
+ * and a scorecard read, run in sample time mode to report the latency percentiles as well as the
+ * throughput. Each game is deleted once it is over so the server holds a game per client thread.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@Threads(8)
+public class ScoringServerBenchmark {
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final int BOWLS_PER_GAME = 21;
+
+    @State(Scope.Benchmark)
+    public static class ServerState {
+        ScoringServer server;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            server = new ScoringServer(0, 8);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            server.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ClientState {
+        HttpClient client;
+        String base;
+        URI game;
+        URI bowls;
+        int bowled = BOWLS_PER_GAME;
+
+        @Setup(Level.Trial)
+        public void setUp(ServerState state) {
+            client = HttpClient.newHttpClient();
+            base = "http://localhost:%s/games".formatted(state.server.getPort());
+        }
+
+        /**
+         * Deletes the game that is over and creates the next one
+         */
+        void nextGame() throws IOException, InterruptedException {
+            if (game != null) {
+                client.send(HttpRequest.newBuilder(game).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+            }
+            String created = client.send(HttpRequest.newBuilder(URI.create(base)).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            Matcher matcher = ID.matcher(created);
+            if (!matcher.find()) {
+                throw new IllegalStateException("No game id in %s".formatted(created));
+            }
+            game = URI.create(base + "/" + matcher.group(1));
+            bowls = URI.create(game + "/bowls");
+            bowled = 0;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException, InterruptedException {
+            if (game != null) {
+                client.send(HttpRequest.newBuilder(game).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+            }
+        }
+    }
+
+    @Benchmark
+    public String bowlAndRead(ClientState state) throws IOException, InterruptedException {
+        if (state.bowled == BOWLS_PER_GAME) {
+            state.nextGame();
+        }
+        state.bowled++;
+        state.client.send(HttpRequest.newBuilder(state.bowls).POST(HttpRequest.BodyPublishers.ofString("{\"pins\":5}")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        return state.client.send(HttpRequest.newBuilder(state.game).GET().build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
@@ -0,0 +1,63 @@
+package com.f8software.bowling.benchmark;
+
+import com.f8software.bowling.analysis.PinModel;
+import com.f8software.bowling.analysis.SimulationResult;
+import com.f8software.bowling.analysis.WinProbabilitySimulator;
+import com.f8software.bowling.model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WinProbabilitySimulator} playing out a million whole games from the start
+ * with different numbers of threads. The score is reported per simulated game, so games per
+ * second per core is the throughput divided by the parallelism.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulatorBenchmark {
+    private static final int GAMES = 1_000_000;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    WinProbabilitySimulator simulator;
+    List<Player> players = Collections.singletonList(new Player());
+    List<PinModel> models = Collections.singletonList(PinModel.binomial(0.7));
+    long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulator = new WinProbabilitySimulator(parallelism, WinProbabilitySimulator.DEFAULT_CHUNK_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationResult simulate() {
+        return simulator.simulate(players, models, GAMES, seed++);
+    }
+}
@@ -2,8 +2,11 @@ package com.f8software.bowling;
 
 import com.f8software.bowling.input.BowlingCLI;
 import com.f8software.bowling.input.InputProvider;
+import com.f8software.bowling.input.StreamInputProvider;
+import com.f8software.bowling.metrics.BowlingMetrics;
 import com.f8software.bowling.model.Frame;
 import com.f8software.bowling.model.Player;
+import com.f8software.bowling.render.AsyncRenderer;
 import com.f8software.bowling.render.Renderer;
 import com.f8software.bowling.render.StandardOutRenderer;
 import org.apache.logging.log4j.LogManager;
@@ -17,13 +20,59 @@ import org.apache.logging.log4j.Logger;
 public class BowlingGame {
     final static Logger logger = LogManager.getLogger(BowlingGame.class);
     public static final int MAX_FRAMES = 10;
-    private final Player player = new Player();
-    private final InputProvider inputProvider = new BowlingCLI();
-    private final Renderer renderer = new StandardOutRenderer();
+    private static final int BATCH_SIZE = 64;
+    // Set to true to print the metrics of the game to standard error once it is over
+    private static final String METRICS_PROPERTY = "bowling.metrics";
+    // Snapshots are published so the player can be rendered on another thread
+    private final Player player = new Player(true);
+    private final InputProvider inputProvider;
+    private final Renderer renderer;
 
+    public BowlingGame() {
+        this(new BowlingCLI(), new StandardOutRenderer());
+    }
+
+    public BowlingGame(InputProvider inputProvider, Renderer renderer) {
+        this.inputProvider = inputProvider;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Creates a game that records its bowls, score updates, renders and time waiting for input
+     * @param metrics where the measurements are recorded
+     */
+    public BowlingGame(InputProvider inputProvider, Renderer renderer, BowlingMetrics metrics) {
+        this(metrics.timed(inputProvider), metrics.timed(renderer));
+        metrics.instrument(player);
+    }
+
+    /**
+     * Plays a game with bowls entered on the command line, or read from standard in
+     * when bowls are piped into the app. Piped bowls are rendered on a separate thread
+     * so reading them is not held up by the output.
+     * Run with -Dbowling.metrics=true to print the metrics of the game once it is over, with piped
+     * bowls the render time is the time taken to hand the Player to the render thread.
+     */
     public static void main(String[] args) {
-        BowlingGame bowlingGame = new BowlingGame();
-        bowlingGame.play();
+        BowlingMetrics metrics = Boolean.getBoolean(METRICS_PROPERTY) ? new BowlingMetrics() : null;
+        if (System.console() == null) {
+            try (AsyncRenderer renderer = new AsyncRenderer(new StandardOutRenderer())) {
+                play(new StreamInputProvider(System.in), renderer, metrics);
+            }
+        } else {
+            play(new BowlingCLI(), new StandardOutRenderer(), metrics);
+        }
+        if (metrics != null) {
+            System.err.print(metrics.toPrometheus());
+        }
+    }
+
+    private static void play(InputProvider inputProvider, Renderer renderer, BowlingMetrics metrics) {
+        if (metrics == null) {
+            new BowlingGame(inputProvider, renderer).play();
+        } else {
+            new BowlingGame(inputProvider, renderer, metrics).play();
+        }
     }
 
     /**
@@ -31,10 +80,15 @@ public class BowlingGame {
      * inputProvider and after each bowl will pass the player to the renderer to be displayed.
      * The player will keep track of frames and scores after each state change (bowl)
      *
-     * If an invalid bowl is entered it will be ignored and the player may enter again.
+     * If an invalid bowl or invalid input is entered it will be ignored and the player may enter again.
+     * Bowls are taken from the inputProvider in batches so piped input can be read quickly,
+     * if the input ends before the game is over the game is stopped.
      */
     public void play() {
         logger.info("Starting Bowling Game");
+        int[] bowls = new int[BATCH_SIZE];
+        int count = 0;
+        int next = 0;
         // Display initial blank scorecard
         renderer.render(player);
         // Play the required number of Frames
@@ -44,8 +98,22 @@ public class BowlingGame {
                 boolean added = false;
                 // Bowls may be rejected if invalid
                 while (!added) {
-                    int bowl = inputProvider.getInput();
-                    added = player.addBowl(bowl);
+                    if (next == count) {
+                        next = 0;
+                        try {
+                            count = inputProvider.getInput(bowls);
+                        } catch (IllegalArgumentException e) {
+                            // The invalid input has been skipped, so carry on reading
+                            logger.warn(e.getMessage());
+                            count = 0;
+                            continue;
+                        }
+                        if (count < 0) {
+                            logger.warn("Input ended before the game was over");
+                            return;
+                        }
+                    }
+                    added = player.addBowl(bowls[next++]);
                 }
                 // Display the updated scores
                 renderer.render(player);
@@ -0,0 +1,115 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.BowlingGame;
+import com.f8software.bowling.model.Scorer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The BulkScorer class scores large numbers of games in parallel and summarises the results.
+ * Games are held one after another in a single array of bowls with an offsets array, as used by
+ * {@link Scorer#score(int[], int[])}. The games are split into chunks which are scored on a
+ * {@link ForkJoinPool} and the {@link ScoreSummary} for each chunk combined.
+ */
+public class BulkScorer implements AutoCloseable {
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a scorer using one thread per available processor
+     */
+    public BulkScorer() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param parallelism the number of threads used to score the games
+     * @param chunkSize the number of games scored by a thread at a time
+     */
+    public BulkScorer(int parallelism, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Scores every game and summarises the final scores
+     * @param bowls the bowls of all the games
+     * @param offsets the start of each game in the bowls, followed by the end of the last game
+     * @return the summary of all the games
+     * @throws IllegalArgumentException if any game is invalid
+     */
+    public ScoreSummary summarise(int[] bowls, int[] offsets) {
+        return score(bowls, offsets, null);
+    }
+
+    /**
+     * Scores every game, writing the final score of each game into finalScores, and
+     * summarises the final scores
+     * @param bowls the bowls of all the games
+     * @param offsets the start of each game in the bowls, followed by the end of the last game
+     * @param finalScores the array to write the final score of each game into, one per game
+     * @return the summary of all the games
+     * @throws IllegalArgumentException if any game is invalid
+     */
+    public ScoreSummary score(int[] bowls, int[] offsets, int[] finalScores) {
+        int games = Math.max(offsets.length - 1, 0);
+        return pool.invoke(new ChunkTask(bowls, offsets, finalScores, 0, games));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Splits the range of games in half until it is no bigger than the chunk size
+     * and then scores the chunk
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private class ChunkTask extends RecursiveTask<ScoreSummary> {
+        private final int[] bowls;
+        private final int[] offsets;
+        private final int[] finalScores;
+        private final int from;
+        private final int to;
+
+        ChunkTask(int[] bowls, int[] offsets, int[] finalScores, int from, int to) {
+            this.bowls = bowls;
+            this.offsets = offsets;
+            this.finalScores = finalScores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ScoreSummary compute() {
+            if (to - from <= chunkSize) {
+                return scoreChunk();
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(bowls, offsets, finalScores, from, middle);
+            left.fork();
+            ScoreSummary right = new ChunkTask(bowls, offsets, finalScores, middle, to).compute();
+            return left.join().combine(right);
+        }
+
+        private ScoreSummary scoreChunk() {
+            ScoreSummary summary = new ScoreSummary();
+            int[] scores = new int[BowlingGame.MAX_FRAMES];
+            for (int game = from; game < to; game++) {
+                int frames = Scorer.score(bowls, offsets[game], offsets[game + 1], scores, 0);
+                int finalScore = frames == 0 ? 0 : scores[frames - 1];
+                if (finalScores != null) {
+                    finalScores[game] = finalScore;
+                }
+                summary.add(finalScore);
+            }
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.BowlingGame;
+import com.f8software.bowling.model.Scorer;
+
+import java.util.Arrays;
+
+/**
+ * The GameColumns class holds a batch of games column-wise for {@link ColumnarScorer}.
+ * Each Frame has two columns, the first and second bowl of that Frame for every game, and
+ * the last Frame has a third column for its bonus bowl. A strike leaves the second column of
+ * its Frame as zero and bowls that have not taken place are zero, so every game has the same
+ * shape and can be scored a column at a time.
+ */
+public class GameColumns {
+    public static final int COLUMNS = BowlingGame.MAX_FRAMES * 2 + 1;
+    private static final int MAX_PINS = 10;
+    private static final int LAST_FRAME = BowlingGame.MAX_FRAMES - 1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int[][] columns = new int[COLUMNS][];
+    private final int[] scratch = new int[BowlingGame.MAX_FRAMES];
+    private int[] framesStarted;
+    private int size;
+
+    public GameColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of games to allocate room for up front
+     */
+    public GameColumns(int capacity) {
+        int games = Math.max(capacity, 1);
+        for (int column = 0; column < COLUMNS; column++) {
+            columns[column] = new int[games];
+        }
+        framesStarted = new int[games];
+    }
+
+    /**
+     * Adds a game to the batch
+     * @param bowls the bowls of the game in the order they were played, the game can be unfinished
+     * @return the index of the game in the batch
+     * @throws IllegalArgumentException if a bowl is invalid or there are more bowls than the game allows
+     */
+    public int add(int[] bowls) {
+        return add(bowls, 0, bowls.length);
+    }
+
+    /**
+     * Adds a game held in part of an array to the batch
+     * @param bowls the array holding the bowls of the game
+     * @param from the index of the first bowl of the game
+     * @param to the index after the last bowl of the game
+     * @return the index of the game in the batch
+     * @throws IllegalArgumentException if a bowl is invalid or there are more bowls than the game allows
+     */
+    public int add(int[] bowls, int from, int to) {
+        int frames = Scorer.score(bowls, from, to, scratch, 0);
+        if (size == framesStarted.length) {
+            for (int column = 0; column < COLUMNS; column++) {
+                columns[column] = Arrays.copyOf(columns[column], size * 2);
+            }
+            framesStarted = Arrays.copyOf(framesStarted, size * 2);
+        }
+        int game = size++;
+        int i = from;
+        for (int frame = 0; frame < LAST_FRAME && i < to; frame++) {
+            int first = bowls[i++];
+            columns[frame * 2][game] = first;
+            if (first != MAX_PINS && i < to) {
+                columns[frame * 2 + 1][game] = bowls[i++];
+            }
+        }
+        for (int column = LAST_FRAME * 2; i < to; column++) {
+            columns[column][game] = bowls[i++];
+        }
+        framesStarted[game] = frames;
+        return game;
+    }
+
+    /**
+     * Returns the number of games held in this batch
+     * @return the number of games
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of Frames that have been started in a game
+     * @param game the index of the game
+     * @return the number of Frames started
+     */
+    public int getFramesStarted(int game) {
+        if (game < 0 || game >= size) {
+            throw new IndexOutOfBoundsException(game);
+        }
+        return framesStarted[game];
+    }
+
+    /**
+     * Returns a bowl of every game, the array may be longer than the number of games
+     * @param frame the index of the Frame, starting at zero
+     * @param bowl the index of the bowl within the Frame, only the last Frame has a third bowl
+     * @return the column holding that bowl for each game
+     */
+    public int[] getColumn(int frame, int bowl) {
+        return columns[frame * 2 + bowl];
+    }
+}
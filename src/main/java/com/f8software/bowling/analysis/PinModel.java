@@ -0,0 +1,104 @@
+package com.f8software.bowling.analysis;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A PinModel gives the chance of a bowl knocking down each number of pins, depending on the
+ * pins left standing. It is used by the {@link WinProbabilitySimulator} to play out the rest of a
+ * game, and each player can have their own model.
+ *
+ * The chances are held as cumulative tables so a bowl is sampled without allocating.
+ */
+public final class PinModel {
+    private static final int MAX_PINS = 10;
+    private final double[][] cumulative = new double[MAX_PINS + 1][];
+
+    /**
+     * Creates a model from relative weights, weights[pinsLeft][pins] is the weight of knocking down
+     * pins when pinsLeft are standing. The weights for each number of pins left are scaled to add up to 1.
+     * @param weights the weights for 0 to 10 pins left, each row holding a weight for 0 up to pinsLeft pins
+     * @throws IllegalArgumentException if a row is the wrong length, has a negative weight or adds up to zero
+     */
+    public PinModel(double[][] weights) {
+        if (weights.length != MAX_PINS + 1) {
+            throw new IllegalArgumentException("Expected weights for 0 to %s pins left but got %s rows".formatted(MAX_PINS, weights.length));
+        }
+        for (int pinsLeft = 0; pinsLeft <= MAX_PINS; pinsLeft++) {
+            double[] row = weights[pinsLeft];
+            if (row.length != pinsLeft + 1) {
+                throw new IllegalArgumentException("Expected %s weights with %s pins left but got %s".formatted(pinsLeft + 1, pinsLeft, row.length));
+            }
+            double sum = 0;
+            for (double weight : row) {
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Weights cannot be negative but got %s".formatted(weight));
+                }
+                sum += weight;
+            }
+            if (sum <= 0) {
+                throw new IllegalArgumentException("The weights with %s pins left add up to zero".formatted(pinsLeft));
+            }
+            double[] cumulativeRow = new double[pinsLeft + 1];
+            double running = 0;
+            for (int pins = 0; pins <= pinsLeft; pins++) {
+                running += row[pins];
+                cumulativeRow[pins] = running / sum;
+            }
+            // Guard against rounding so a sample always lands in the table
+            cumulativeRow[pinsLeft] = 1.0;
+            cumulative[pinsLeft] = cumulativeRow;
+        }
+    }
+
+    /**
+     * Creates a model where every number of pins up to the pins left is equally likely
+     * @return the model
+     */
+    public static PinModel uniform() {
+        double[][] weights = new double[MAX_PINS + 1][];
+        for (int pinsLeft = 0; pinsLeft <= MAX_PINS; pinsLeft++) {
+            weights[pinsLeft] = new double[pinsLeft + 1];
+            Arrays.fill(weights[pinsLeft], 1.0);
+        }
+        return new PinModel(weights);
+    }
+
+    /**
+     * Creates a model where each pin standing is knocked down with the same chance,
+     * independently of the others
+     * @param pinChance the chance of knocking down a pin, 0 to 1
+     * @return the model
+     */
+    public static PinModel binomial(double pinChance) {
+        if (pinChance < 0 || pinChance > 1) {
+            throw new IllegalArgumentException("The pin chance must be between 0 and 1 but was %s".formatted(pinChance));
+        }
+        double[][] weights = new double[MAX_PINS + 1][];
+        for (int pinsLeft = 0; pinsLeft <= MAX_PINS; pinsLeft++) {
+            weights[pinsLeft] = new double[pinsLeft + 1];
+            double combinations = 1;
+            for (int pins = 0; pins <= pinsLeft; pins++) {
+                weights[pinsLeft][pins] = combinations * Math.pow(pinChance, pins) * Math.pow(1 - pinChance, pinsLeft - pins);
+                combinations = combinations * (pinsLeft - pins) / (pins + 1);
+            }
+        }
+        return new PinModel(weights);
+    }
+
+    /**
+     * Samples the pins knocked down by a bowl
+     * @param pinsLeft the pins left standing, 0 to 10
+     * @param random the source of randomness, one per thread
+     * @return the pins knocked down, 0 to pinsLeft
+     */
+    public int bowl(int pinsLeft, SplittableRandom random) {
+        double[] row = cumulative[pinsLeft];
+        double sample = random.nextDouble();
+        int pins = 0;
+        while (sample >= row[pins]) {
+            pins++;
+        }
+        return pins;
+    }
+}
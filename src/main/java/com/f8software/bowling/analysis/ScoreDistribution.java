@@ -0,0 +1,212 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.BowlingGame;
+import com.f8software.bowling.model.Frame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The ScoreDistribution class counts how many distinct legal games finish with each score from
+ * 0 to 300, and from that the probability of each score if every legal game is equally likely.
+ *
+ * The legal Frames are found by playing bowls into a {@link Frame} using its own validation, and the
+ * games are counted with dynamic programming rather than played one by one. After each Frame a game
+ * only needs its score so far and which of the next two bowls still count as a bonus for earlier
+ * Frames, so the number of games reaching each of these states is carried forward a Frame at a time.
+ * The bonus bowls are added to the score as soon as they are bowled.
+ *
+ * There are about 5.7 x 10^18 legal games, which still fits in a long.
+ */
+public class ScoreDistribution {
+    public static final int MAX_SCORE = ScoreSummary.MAX_SCORE;
+    private static final int MAX_PINS = 10;
+    // Bonus states, how many times the next bowl and the one after it are also added as a bonus
+    private static final int NO_BONUS = 0;
+    private static final int SPARE_BONUS = 1;
+    private static final int STRIKE_BONUS = 2;
+    private static final int DOUBLE_BONUS = 3;
+    private static final int STATES = 4;
+    private static final int[] NEXT_BONUS = {0, 1, 1, 2};
+    private static final int[] AFTER_NEXT_BONUS = {0, 0, 1, 1};
+    private static final List<int[]> FRAMES = legalFrames(false);
+    private static final List<int[]> LAST_FRAMES = legalFrames(true);
+
+    private final long[] counts;
+    private final long games;
+
+    private ScoreDistribution(long[] counts) {
+        this.counts = counts;
+        this.games = Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Counts the games for each score on the calling thread
+     * @return the distribution of scores
+     */
+    public static ScoreDistribution compute() {
+        return new ScoreDistribution(countFrom(0, FRAMES.size()));
+    }
+
+    /**
+     * Counts the games for each score, splitting the work by the first Frame of the game
+     * across the threads of a {@link ForkJoinPool}
+     * @param parallelism the number of threads to use
+     * @return the distribution of scores
+     */
+    public static ScoreDistribution compute(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long[] counts = pool.submit(() -> IntStream.range(0, FRAMES.size())
+                    .parallel()
+                    .mapToObj(first -> countFrom(first, first + 1))
+                    .reduce(new long[MAX_SCORE + 1], ScoreDistribution::add)).join();
+            return new ScoreDistribution(counts);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of distinct legal games finishing with the score given
+     * @param score the final score, 0 to 300
+     * @return the number of games
+     */
+    public long getCount(int score) {
+        return score < 0 || score > MAX_SCORE ? 0 : counts[score];
+    }
+
+    /**
+     * Returns the number of distinct legal games
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the chance of a game finishing with the score given, if every legal game is equally likely
+     * @param score the final score, 0 to 300
+     * @return the probability from 0 to 1
+     */
+    public double getProbability(int score) {
+        return (double) getCount(score) / games;
+    }
+
+    /**
+     * Returns the chance of a game finishing with at least the score given, if every legal game is equally likely
+     * @param score the lowest final score
+     * @return the probability from 0 to 1
+     */
+    public double getProbabilityAtLeast(int score) {
+        long atLeast = 0;
+        for (int i = Math.max(score, 0); i <= MAX_SCORE; i++) {
+            atLeast += counts[i];
+        }
+        return (double) atLeast / games;
+    }
+
+    /**
+     * Counts the games for each final score where the first Frame is one of the legal Frames
+     * from index from up to index to
+     */
+    private static long[] countFrom(int from, int to) {
+        long[][] counts = new long[STATES][MAX_SCORE + 1];
+        long[][] next = new long[STATES][MAX_SCORE + 1];
+        for (int i = from; i < to; i++) {
+            int[] frame = FRAMES.get(i);
+            counts[stateAfter(NO_BONUS, frame)][frameScore(NO_BONUS, frame)]++;
+        }
+        for (int frame = 1; frame < BowlingGame.MAX_FRAMES - 1; frame++) {
+            for (long[] row : next) {
+                Arrays.fill(row, 0);
+            }
+            for (int state = 0; state < STATES; state++) {
+                for (int[] bowls : FRAMES) {
+                    int score = frameScore(state, bowls);
+                    long[] target = next[stateAfter(state, bowls)];
+                    long[] source = counts[state];
+                    for (int total = 0; total + score <= MAX_SCORE; total++) {
+                        target[total + score] += source[total];
+                    }
+                }
+            }
+            long[][] swap = counts;
+            counts = next;
+            next = swap;
+        }
+        long[] result = new long[MAX_SCORE + 1];
+        for (int state = 0; state < STATES; state++) {
+            for (int[] bowls : LAST_FRAMES) {
+                int score = frameScore(state, bowls);
+                for (int total = 0; total + score <= MAX_SCORE; total++) {
+                    result[total + score] += counts[state][total];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the pins knocked down in a Frame plus the bonus its first two bowls
+     * add to earlier Frames
+     */
+    private static int frameScore(int state, int[] bowls) {
+        int score = bowls[0] * (1 + NEXT_BONUS[state]);
+        if (bowls.length > 1) {
+            score += bowls[1] * (1 + AFTER_NEXT_BONUS[state]);
+        }
+        if (bowls.length > 2) {
+            score += bowls[2];
+        }
+        return score;
+    }
+
+    /**
+     * Returns the bonus state after a Frame other than the last
+     */
+    private static int stateAfter(int state, int[] bowls) {
+        if (bowls[0] == MAX_PINS) {
+            return AFTER_NEXT_BONUS[state] == 0 ? STRIKE_BONUS : DOUBLE_BONUS;
+        }
+        return bowls[0] + bowls[1] == MAX_PINS ? SPARE_BONUS : NO_BONUS;
+    }
+
+    private static long[] add(long[] total, long[] counts) {
+        long[] sum = Arrays.copyOf(total, total.length);
+        for (int score = 0; score < sum.length; score++) {
+            sum[score] += counts[score];
+        }
+        return sum;
+    }
+
+    /**
+     * Finds every legal way of playing a Frame by trying each bowl up to the pins left
+     * until the Frame is complete
+     */
+    private static List<int[]> legalFrames(boolean lastFrame) {
+        List<int[]> frames = new ArrayList<>();
+        addLegalFrames(new int[0], lastFrame, frames);
+        return frames;
+    }
+
+    private static void addLegalFrames(int[] bowls, boolean lastFrame, List<int[]> frames) {
+        Frame frame = new Frame();
+        frame.setLastFrame(lastFrame);
+        for (int bowl : bowls) {
+            frame.addBowl(bowl);
+        }
+        if (frame.getStatus() == Frame.FrameState.COMPLETE) {
+            frames.add(bowls);
+            return;
+        }
+        for (int bowl = 0; bowl <= frame.getPinsLeft(); bowl++) {
+            int[] next = Arrays.copyOf(bowls, bowls.length + 1);
+            next[bowls.length] = bowl;
+            addLegalFrames(next, lastFrame, frames);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.f8software.bowling.analysis;
+
+/**
+ * The ScoreSummary class accumulates the final scores of many games - the number of games,
+ * the total, lowest and highest score and a histogram with a count for each score from 0 to 300.
+ * Summaries of separate chunks of games can be combined into one.
+ */
+public class ScoreSummary {
+    public static final int MAX_SCORE = 300;
+    private final long[] histogram = new long[MAX_SCORE + 1];
+    private long games;
+    private long total;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * Adds the final score of a game to this summary
+     * @param score the final score of the game, 0 to 300
+     */
+    public void add(int score) {
+        histogram[score]++;
+        games++;
+        total += score;
+        min = Math.min(min, score);
+        max = Math.max(max, score);
+    }
+
+    /**
+     * Adds all the games from another summary to this one
+     * @param other the summary to combine with this one
+     * @return this summary
+     */
+    public ScoreSummary combine(ScoreSummary other) {
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            histogram[score] += other.histogram[score];
+        }
+        games += other.games;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * @return the number of games in this summary
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return the sum of the final scores of all the games
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the average final score, zero if there are no games
+     */
+    public double getAverage() {
+        return games == 0 ? 0 : (double) total / games;
+    }
+
+    /**
+     * @return the lowest final score, zero if there are no games
+     */
+    public int getMin() {
+        return games == 0 ? 0 : min;
+    }
+
+    /**
+     * @return the highest final score, zero if there are no games
+     */
+    public int getMax() {
+        return games == 0 ? 0 : max;
+    }
+
+    /**
+     * Returns the number of games with the given final score
+     * @param score the final score, 0 to 300
+     * @return the number of games
+     */
+    public long getCount(int score) {
+        return histogram[score];
+    }
+}
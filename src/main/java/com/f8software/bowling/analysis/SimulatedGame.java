@@ -0,0 +1,164 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.BowlingGame;
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.ScoreSnapshot;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A SimulatedGame is the state of a Player's game reduced to a few ints, so the rest of the game
+ * can be played out over and over without creating Frames. Each bowl adds its pins to the score
+ * straight away, along with a bonus for any earlier strike or spare still waiting for it.
+ *
+ * The state is taken once from the Player's Frames and then copied into a working game
+ * with {@link #reset(SimulatedGame)} before each play out.
+ */
+class SimulatedGame {
+    private static final int MAX_PINS = 10;
+    private static final int LAST_FRAME = BowlingGame.MAX_FRAMES - 1;
+
+    private int score;
+    private int frame;
+    private int frameBowls;
+    private int firstBowl;
+    private int pinsLeft;
+    // The number of earlier Frames taking the next bowl, and the bowl after, as a bonus
+    private int nextBonus;
+    private int afterNextBonus;
+    private boolean complete;
+
+    SimulatedGame() {
+    }
+
+    /**
+     * Takes the state of a game from a Player's Frames
+     * @param player the Player, read through its snapshot
+     */
+    SimulatedGame(Player player) {
+        ScoreSnapshot snapshot = player.getSnapshot();
+        List<Frame> frames = snapshot.getFrames();
+        complete = frames.size() == BowlingGame.MAX_FRAMES
+                && frames.get(LAST_FRAME).getStatus() == Frame.FrameState.COMPLETE;
+        score = snapshot.getMinPossibleScore();
+        if (complete || frames.isEmpty()) {
+            pinsLeft = MAX_PINS;
+            return;
+        }
+        Frame last = frames.get(frames.size() - 1);
+        frame = last.getStatus() == Frame.FrameState.COMPLETE ? frames.size() : frames.size() - 1;
+        if (frame < frames.size()) {
+            Frame current = frames.get(frame);
+            frameBowls = current.getBowlCount();
+            firstBowl = current.getFirstBowlScore();
+        }
+        pinsLeft = frameBowls == 0 ? MAX_PINS : frames.get(frame).getPinsLeft();
+        Frame previous = frame > 0 ? frames.get(frame - 1) : null;
+        if (previous != null && previous.isStrike()) {
+            addBonus(2 - frameBowls);
+            Frame beforePrevious = frame > 1 ? frames.get(frame - 2) : null;
+            if (beforePrevious != null && beforePrevious.isStrike()) {
+                addBonus(1 - frameBowls);
+            }
+        } else if (previous != null && previous.isSpare()) {
+            addBonus(1 - frameBowls);
+        }
+    }
+
+    /**
+     * Copies the state of another game into this one
+     * @param from the game to copy
+     */
+    void reset(SimulatedGame from) {
+        score = from.score;
+        frame = from.frame;
+        frameBowls = from.frameBowls;
+        firstBowl = from.firstBowl;
+        pinsLeft = from.pinsLeft;
+        nextBonus = from.nextBonus;
+        afterNextBonus = from.afterNextBonus;
+        complete = from.complete;
+    }
+
+    /**
+     * Plays out the rest of the game
+     * @param model the chance of knocking down each number of pins
+     * @param random the source of randomness
+     * @return the final score
+     */
+    int playOut(PinModel model, SplittableRandom random) {
+        while (!complete) {
+            bowl(model.bowl(pinsLeft, random));
+        }
+        return score;
+    }
+
+    /**
+     * Adds a bowl following the same rules as a {@link Frame}, the bowl must be valid
+     * @param pins the pins knocked down
+     */
+    void bowl(int pins) {
+        score += pins * (1 + nextBonus);
+        nextBonus = afterNextBonus;
+        afterNextBonus = 0;
+        if (frame < LAST_FRAME) {
+            if (frameBowls == 0 && pins == MAX_PINS) {
+                nextBonus++;
+                afterNextBonus++;
+                nextFrame();
+            } else if (frameBowls == 0) {
+                frameBowls = 1;
+                pinsLeft = MAX_PINS - pins;
+            } else {
+                if (pins == pinsLeft) {
+                    nextBonus++;
+                }
+                nextFrame();
+            }
+            return;
+        }
+        switch (frameBowls) {
+            case 0 -> {
+                firstBowl = pins;
+                pinsLeft = pins == MAX_PINS ? MAX_PINS : MAX_PINS - pins;
+                frameBowls = 1;
+            }
+            case 1 -> {
+                if (firstBowl == MAX_PINS) {
+                    pinsLeft = pins == MAX_PINS ? MAX_PINS : MAX_PINS - pins;
+                } else if (pins == pinsLeft) {
+                    pinsLeft = MAX_PINS;
+                } else {
+                    complete = true;
+                }
+                frameBowls = 2;
+            }
+            default -> complete = true;
+        }
+    }
+
+    int getScore() {
+        return score;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    private void nextFrame() {
+        frame++;
+        frameBowls = 0;
+        pinsLeft = MAX_PINS;
+    }
+
+    private void addBonus(int missingBowls) {
+        if (missingBowls >= 1) {
+            nextBonus++;
+        }
+        if (missingBowls >= 2) {
+            afterNextBonus++;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.f8software.bowling.analysis;
+
+/**
+ * The SimulationResult class holds the outcome of the games played out by the
+ * {@link WinProbabilitySimulator} - how often each player won outright, how often the game
+ * was tied for first place and each player's average final score. Win probabilities are
+ * reported with a 95% confidence interval.
+ */
+public class SimulationResult {
+    private static final double Z_95 = 1.959964;
+    private final long trials;
+    private final long[] wins;
+    private final long[] totalScores;
+    private final long ties;
+
+    SimulationResult(long trials, long[] wins, long[] totalScores, long ties) {
+        this.trials = trials;
+        this.wins = wins;
+        this.totalScores = totalScores;
+        this.ties = ties;
+    }
+
+    /**
+     * Returns the number of times the game was played out
+     * @return the number of trials
+     */
+    public long getTrials() {
+        return trials;
+    }
+
+    /**
+     * Returns the number of players in the game
+     * @return the number of players
+     */
+    public int getPlayers() {
+        return wins.length;
+    }
+
+    /**
+     * Returns the number of trials the player won outright
+     * @param player the index of the player
+     * @return the number of wins
+     */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Returns the chance of the player winning outright
+     * @param player the index of the player
+     * @return the probability from 0 to 1
+     */
+    public double getWinProbability(int player) {
+        return trials == 0 ? 0 : (double) wins[player] / trials;
+    }
+
+    /**
+     * Returns the lower end of the 95% confidence interval for the player winning outright,
+     * using the Wilson score interval which stays within 0 to 1 even for very likely or unlikely wins
+     * @param player the index of the player
+     * @return the lower bound of the probability
+     */
+    public double getWinProbabilityLower(int player) {
+        return wilson(player, -1);
+    }
+
+    /**
+     * Returns the upper end of the 95% confidence interval for the player winning outright
+     * @param player the index of the player
+     * @return the upper bound of the probability
+     */
+    public double getWinProbabilityUpper(int player) {
+        return wilson(player, 1);
+    }
+
+    /**
+     * Returns the chance of two or more players sharing the highest score
+     * @return the probability from 0 to 1
+     */
+    public double getTieProbability() {
+        return trials == 0 ? 0 : (double) ties / trials;
+    }
+
+    /**
+     * Returns the player's average final score over all the trials
+     * @param player the index of the player
+     * @return the average final score
+     */
+    public double getAverageScore(int player) {
+        return trials == 0 ? 0 : (double) totalScores[player] / trials;
+    }
+
+    /**
+     * Combines the trials of two results for the same players
+     * @param other the result to combine with this one
+     * @return a new result holding the trials of both
+     */
+    SimulationResult combine(SimulationResult other) {
+        long[] combinedWins = new long[wins.length];
+        long[] combinedScores = new long[wins.length];
+        for (int player = 0; player < wins.length; player++) {
+            combinedWins[player] = wins[player] + other.wins[player];
+            combinedScores[player] = totalScores[player] + other.totalScores[player];
+        }
+        return new SimulationResult(trials + other.trials, combinedWins, combinedScores, ties + other.ties);
+    }
+
+    private double wilson(int player, int sign) {
+        if (trials == 0) {
+            return sign < 0 ? 0 : 1;
+        }
+        double p = getWinProbability(player);
+        double z2 = Z_95 * Z_95;
+        double centre = p + z2 / (2 * trials);
+        double spread = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials));
+        double bound = (centre + sign * spread) / (1 + z2 / trials);
+        return Math.min(1, Math.max(0, bound));
+    }
+}
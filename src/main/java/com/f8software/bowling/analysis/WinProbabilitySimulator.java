@@ -0,0 +1,146 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.model.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The WinProbabilitySimulator class estimates each player's chance of winning a game that is
+ * still being played. The rest of every player's game is played out many times, sampling each
+ * bowl from that player's {@link PinModel}, and the winner of each trial counted.
+ *
+ * The trials are split into chunks played on a {@link ForkJoinPool}. Each chunk has its own
+ * {@link SplittableRandom} split from a seeded root, so a simulation with the same seed gives
+ * the same result however the chunks are scheduled. Playing out a trial does not allocate.
+ */
+public class WinProbabilitySimulator implements AutoCloseable {
+    public static final int DEFAULT_CHUNK_SIZE = 65536;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a simulator using one thread per available processor
+     */
+    public WinProbabilitySimulator() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param parallelism the number of threads used to play out the games
+     * @param chunkSize the number of trials played by a thread at a time
+     */
+    public WinProbabilitySimulator(int parallelism, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Plays out the rest of the game for every player the number of times given
+     * @param players the players in the game, their current state is read through their snapshots
+     * @param models the pin model for each player, in the same order as the players
+     * @param trials the number of times to play out the game
+     * @param seed the seed for the random bowls
+     * @return the wins and ties of each player
+     * @throws IllegalArgumentException if there is not one model per player or no players
+     */
+    public SimulationResult simulate(List<Player> players, List<PinModel> models, long trials, long seed) {
+        if (players.isEmpty() || players.size() != models.size()) {
+            throw new IllegalArgumentException("Expected a pin model for each of %s players but got %s".formatted(players.size(), models.size()));
+        }
+        SimulatedGame[] games = new SimulatedGame[players.size()];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new SimulatedGame(players.get(i));
+        }
+        PinModel[] pinModels = models.toArray(new PinModel[0]);
+        // Split the randoms up front so each chunk gets the same one whichever thread plays it
+        SplittableRandom root = new SplittableRandom(seed);
+        List<SplittableRandom> randoms = new ArrayList<>();
+        for (long from = 0; from < trials; from += chunkSize) {
+            randoms.add(root.split());
+        }
+        return pool.invoke(new ChunkTask(games, pinModels, randoms, trials, 0, randoms.size()));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Splits the range of chunks in half until there is a single chunk and then plays its trials
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private class ChunkTask extends RecursiveTask<SimulationResult> {
+        private final SimulatedGame[] games;
+        private final PinModel[] models;
+        private final List<SplittableRandom> randoms;
+        private final long trials;
+        private final int from;
+        private final int to;
+
+        ChunkTask(SimulatedGame[] games, PinModel[] models, List<SplittableRandom> randoms, long trials, int from, int to) {
+            this.games = games;
+            this.models = models;
+            this.randoms = randoms;
+            this.trials = trials;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= 1) {
+                return playChunk();
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(games, models, randoms, trials, from, middle);
+            left.fork();
+            SimulationResult right = new ChunkTask(games, models, randoms, trials, middle, to).compute();
+            return left.join().combine(right);
+        }
+
+        private SimulationResult playChunk() {
+            int players = games.length;
+            long[] wins = new long[players];
+            long[] totalScores = new long[players];
+            long ties = 0;
+            if (from == to) {
+                return new SimulationResult(0, wins, totalScores, 0);
+            }
+            long start = (long) from * chunkSize;
+            long count = Math.min(chunkSize, trials - start);
+            SplittableRandom random = randoms.get(from);
+            SimulatedGame working = new SimulatedGame();
+            for (long trial = 0; trial < count; trial++) {
+                int best = -1;
+                int winner = -1;
+                boolean tied = false;
+                for (int player = 0; player < players; player++) {
+                    working.reset(games[player]);
+                    int score = working.playOut(models[player], random);
+                    totalScores[player] += score;
+                    if (score > best) {
+                        best = score;
+                        winner = player;
+                        tied = false;
+                    } else if (score == best) {
+                        tied = true;
+                    }
+                }
+                if (tied) {
+                    ties++;
+                } else {
+                    wins[winner]++;
+                }
+            }
+            return new SimulationResult(count, wins, totalScores, ties);
+        }
+    }
+}
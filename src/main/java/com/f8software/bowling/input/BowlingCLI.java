@@ -15,6 +15,8 @@ public class BowlingCLI implements InputProvider {
     private static final int MAX_TRIES = 3;
     private static final String MESSAGE = "How many pins were knocked down?";
     private static final String INVALID_MESSAGE = "Invalid input, please enter a number";
+    // A single Scanner is kept so any input it has already buffered is not lost between bowls
+    private final Scanner scanner = new Scanner(System.in);
 
     /**
      * This method is used to record bowl counts from a ten pin bowling player.
@@ -24,7 +26,6 @@ public class BowlingCLI implements InputProvider {
      */
     @Override
     public int getInput() {
-        Scanner scanner = new Scanner(System.in);
         int input = 0;
         int tries = 0;
         while (tries < MAX_TRIES) {
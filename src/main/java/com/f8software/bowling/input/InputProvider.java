@@ -5,4 +5,15 @@ package com.f8software.bowling.input;
  */
 public interface InputProvider {
     int getInput();
+
+    /**
+     * Gathers a batch of inputs into the array given. Implementations that buffer their input can
+     * return as many inputs as are already available, by default a single input is gathered.
+     * @param inputs the array to fill with inputs
+     * @return the number of inputs gathered, at least one, or -1 if there is no more input
+     */
+    default int getInput(int[] inputs) {
+        inputs[0] = getInput();
+        return 1;
+    }
 }
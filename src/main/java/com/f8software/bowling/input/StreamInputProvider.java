@@ -0,0 +1,178 @@
+package com.f8software.bowling.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Input provider used to read bowls from a stream such as a file of bowls piped into the app.
+ * Bowls are whole numbers separated by whitespace or commas. The stream is read through a single
+ * reusable buffer and the numbers parsed directly from the bytes, so large amounts of input can be
+ * read quickly and in batches with {@link #getInput(int[])}.
+ * Anything else is invalid, the whole invalid token is skipped so reading can carry on from the next one.
+ */
+public class StreamInputProvider implements InputProvider {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Larger numbers are never valid bowls, so stop growing them rather than overflow
+    private static final int MAX_VALUE = 1_000_000;
+    // How long to wait before reading again when a non-blocking channel has nothing to read
+    private static final long EMPTY_READ_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    private boolean endOfInput;
+    // State of the number being parsed, which may be split across reads
+    private int value;
+    private boolean negative;
+    private boolean inNumber;
+    private boolean skipping;
+    private int parsed;
+    // Invalid input found after some bowls of a batch, thrown by the next call
+    private IllegalArgumentException pendingError;
+
+    public StreamInputProvider(InputStream inputStream) {
+        this(Channels.newChannel(inputStream));
+    }
+
+    public StreamInputProvider(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Reads the next bowl from the stream
+     * @return An integer representing the number of pins knocked down.
+     * @throws IllegalStateException if there is no more input
+     * @throws IllegalArgumentException if the input is not a number
+     */
+    @Override
+    public int getInput() {
+        if (!next(true)) {
+            throw new IllegalStateException("No more input");
+        }
+        return parsed;
+    }
+
+    /**
+     * Reads as many bowls as are available without waiting for more input, waiting
+     * only if none are available
+     * @param inputs the array to fill with bowls
+     * @return the number of bowls read, at least one unless the array is empty, or -1 if there is no more input
+     * @throws IllegalArgumentException if the input is not a number
+     */
+    @Override
+    public int getInput(int[] inputs) {
+        if (inputs.length == 0) {
+            return 0;
+        }
+        if (pendingError != null) {
+            IllegalArgumentException error = pendingError;
+            pendingError = null;
+            throw error;
+        }
+        int count = 0;
+        try {
+            while (count < inputs.length && next(count == 0)) {
+                inputs[count++] = parsed;
+            }
+        } catch (IllegalArgumentException exception) {
+            // Return the bowls read before the invalid input rather than lose them
+            if (count == 0) {
+                throw exception;
+            }
+            pendingError = exception;
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    /**
+     * Parses the next number from the buffer into parsed, reading more input when the buffer is empty
+     * @param wait true to read more input, false to stop when the buffer is empty
+     * @return true if a number was parsed
+     */
+    private boolean next(boolean wait) {
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                boolean partial = inNumber || negative;
+                if (!wait && !partial) {
+                    return false;
+                }
+                if (!fill()) {
+                    // The last number may not be followed by a separator
+                    return partial && finishNumber();
+                }
+            }
+            byte b = buffer.get();
+            boolean separator = b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',';
+            if (skipping) {
+                skipping = !separator;
+            } else if (b >= '0' && b <= '9') {
+                value = Math.min(value * 10 + (b - '0'), MAX_VALUE);
+                inNumber = true;
+            } else if (b == '-' && !inNumber && !negative) {
+                negative = true;
+            } else if (separator) {
+                if (inNumber) {
+                    return finishNumber();
+                } else if (negative) {
+                    throw invalidInput();
+                }
+            } else {
+                // The rest of the token is skipped, so the next read starts at the next token
+                skipping = true;
+                throw invalidInput();
+            }
+        }
+    }
+
+    private boolean finishNumber() {
+        if (negative && !inNumber) {
+            throw invalidInput();
+        }
+        parsed = negative ? -value : value;
+        value = 0;
+        negative = false;
+        inNumber = false;
+        return true;
+    }
+
+    private IllegalArgumentException invalidInput() {
+        value = 0;
+        negative = false;
+        inNumber = false;
+        return new IllegalArgumentException("Invalid input, please enter a number");
+    }
+
+    /**
+     * Reads more input into the buffer, which is only called once the buffer is empty. If the read fails
+     * the buffer is left empty for reading, so a later call reads again.
+     * A non-blocking channel with nothing to read is polled rather than spun on.
+     * @return false if there is no more input
+     */
+    private boolean fill() {
+        if (endOfInput) {
+            return false;
+        }
+        buffer.clear();
+        try {
+            int read;
+            while ((read = channel.read(buffer)) == 0) {
+                LockSupport.parkNanos(EMPTY_READ_WAIT_NANOS);
+            }
+            if (read < 0) {
+                endOfInput = true;
+                return false;
+            }
+            return true;
+        } catch (IOException exception) {
+            // Anything read before the failure is discarded
+            buffer.clear();
+            throw new UncheckedIOException(exception);
+        } finally {
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.f8software.bowling.lane;
+
+import com.f8software.bowling.input.InputProvider;
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.ScoreSnapshot;
+import com.f8software.bowling.render.Renderer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Lane hosts a game of bowling for one or more players who take turns to bowl a Frame each.
+ * Every Lane has its own single thread that is the only writer to its Players, so bowls for
+ * different Lanes are processed independently and a slow Lane never holds up another.
+ * Other threads see the Players through their published {@link ScoreSnapshot}s.
+ * Lanes are opened by the {@link LaneManager}.
+ */
+public class Lane implements AutoCloseable {
+    final static Logger logger = LogManager.getLogger(Lane.class);
+    private final int number;
+    private final List<Player> players;
+    private final Renderer renderer;
+    private final LongAdder bowled;
+    private final ExecutorService executor;
+    private volatile int currentPlayer;
+
+    Lane(int number, int playerCount, Renderer renderer, LongAdder bowled) {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("A lane needs at least one player");
+        }
+        this.number = number;
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player(true));
+        }
+        this.players = Collections.unmodifiableList(players);
+        this.renderer = renderer;
+        this.bowled = bowled;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lane-" + number);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a bowl for the player whose turn it is. The bowl is processed on this Lane's thread
+     * after any bowls submitted before it.
+     * @param bowl the number of pins knocked down
+     * @return completes with true if the bowl was added, false if it was rejected
+     */
+    public CompletableFuture<Boolean> submit(int bowl) {
+        return CompletableFuture.supplyAsync(() -> bowl(bowl), executor);
+    }
+
+    /**
+     * Plays the game on this Lane's thread, taking bowls from the input provider until every
+     * player has completed their game. Invalid bowls are ignored and the player may bowl again.
+     * Bowls submitted while the game is being played will wait until it is over.
+     * @param inputProvider provides the bowls for this Lane
+     * @return completes when the game is over
+     */
+    public Future<?> play(InputProvider inputProvider) {
+        return executor.submit(() -> {
+            logger.info("Starting game on lane {}", number);
+            while (!isComplete()) {
+                bowl(inputProvider.getInput());
+            }
+            logger.info("Game over on lane {}", number);
+        });
+    }
+
+    /**
+     * Adds a bowl to the player whose turn it is, moving on to the next player still
+     * playing once their Frame is complete. Only called on this Lane's thread.
+     */
+    private boolean bowl(int bowl) {
+        Player player = players.get(currentPlayer);
+        boolean added = player.addBowl(bowl);
+        if (added) {
+            bowled.increment();
+            renderer.render(player);
+            List<Frame> frames = player.getFrames();
+            if (frames.get(frames.size() - 1).getStatus() == Frame.FrameState.COMPLETE) {
+                nextPlayer();
+            }
+        }
+        return added;
+    }
+
+    private void nextPlayer() {
+        int next = currentPlayer;
+        for (int i = 0; i < players.size(); i++) {
+            next = (next + 1) % players.size();
+            if (!players.get(next).isComplete()) {
+                break;
+            }
+        }
+        currentPlayer = next;
+    }
+
+    /**
+     * @return the number of this Lane
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the Players on this Lane in the order they take turns. The Players are updated
+     * on this Lane's thread so should only be read once a submitted bowl has completed,
+     * use {@link #getSnapshots()} while the game is being played.
+     * @return the Players on this Lane
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the latest snapshot of each Player in the order they take turns, this can be
+     * called from any thread while the game is being played
+     * @return the snapshots of the Players on this Lane
+     */
+    public List<ScoreSnapshot> getSnapshots() {
+        List<ScoreSnapshot> snapshots = new ArrayList<>(players.size());
+        for (Player player : players) {
+            snapshots.add(player.getSnapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * @return the index of the player whose turn it is
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * This can be called from any thread as it reads the published snapshots
+     * @return true once every player on this Lane has completed their game
+     */
+    public boolean isComplete() {
+        for (Player player : players) {
+            if (!player.getSnapshot().isComplete()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops this Lane's thread, bowls that have already been submitted are still processed
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,112 @@
+package com.f8software.bowling.lane;
+
+import com.f8software.bowling.render.Renderer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LaneManager hosts many games of bowling at once, one on each {@link Lane}.
+ * Each Lane processes its own bowls on its own thread and the manager keeps count of
+ * the bowls processed across all Lanes to measure throughput.
+ */
+public class LaneManager implements AutoCloseable {
+    private final Map<Integer, Lane> lanes = new ConcurrentHashMap<>();
+    private final LongAdder bowled = new LongAdder();
+    private final long started = System.nanoTime();
+
+    /**
+     * Opens a Lane for a new game, scores are not rendered
+     * @param number the number used to identify the Lane
+     * @param players the number of players taking turns on the Lane
+     * @return the new Lane
+     */
+    public Lane openLane(int number, int players) {
+        return openLane(number, players, player -> { });
+    }
+
+    /**
+     * Opens a Lane for a new game
+     * @param number the number used to identify the Lane
+     * @param players the number of players taking turns on the Lane
+     * @param renderer called on the Lane's thread with the player after each bowl is added
+     * @return the new Lane
+     * @throws IllegalStateException if the Lane is already open
+     */
+    public Lane openLane(int number, int players, Renderer renderer) {
+        Lane lane = new Lane(number, players, renderer, bowled);
+        if (lanes.putIfAbsent(number, lane) != null) {
+            lane.close();
+            throw new IllegalStateException("Lane %s is already open".formatted(number));
+        }
+        return lane;
+    }
+
+    /**
+     * Closes a Lane, bowls already submitted to it are still processed
+     * @param number the number of the Lane
+     */
+    public void closeLane(int number) {
+        Lane lane = lanes.remove(number);
+        if (lane != null) {
+            lane.close();
+        }
+    }
+
+    /**
+     * @param number the number of the Lane
+     * @return the Lane or null if it is not open
+     */
+    public Lane getLane(int number) {
+        return lanes.get(number);
+    }
+
+    /**
+     * @return the Lanes that are open
+     */
+    public Collection<Lane> getLanes() {
+        return Collections.unmodifiableCollection(lanes.values());
+    }
+
+    /**
+     * Submits a bowl for the player whose turn it is on a Lane
+     * @param number the number of the Lane
+     * @param bowl the number of pins knocked down
+     * @return completes with true if the bowl was added, false if it was rejected
+     * @throws IllegalArgumentException if the Lane is not open
+     */
+    public CompletableFuture<Boolean> submit(int number, int bowl) {
+        Lane lane = lanes.get(number);
+        if (lane == null) {
+            throw new IllegalArgumentException("Lane %s is not open".formatted(number));
+        }
+        return lane.submit(bowl);
+    }
+
+    /**
+     * @return the number of bowls added across all Lanes
+     */
+    public long getBowls() {
+        return bowled.sum();
+    }
+
+    /**
+     * @return the average number of bowls added per second across all Lanes since this manager was created
+     */
+    public double getBowlsPerSecond() {
+        long elapsed = System.nanoTime() - started;
+        return elapsed == 0 ? 0 : bowled.sum() * 1_000_000_000.0 / elapsed;
+    }
+
+    @Override
+    public void close() {
+        for (Lane lane : lanes.values()) {
+            lane.close();
+        }
+        lanes.clear();
+    }
+}
@@ -0,0 +1,301 @@
+package com.f8software.bowling.metrics;
+
+import com.f8software.bowling.input.InputProvider;
+import com.f8software.bowling.model.BowlRecorder;
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.render.Renderer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The BowlingMetrics class collects counters and latencies from the scoring engine and dumps them
+ * in the Prometheus text format. Nothing is measured until it is wired in:
+ * - {@link #instrument(Player)} counts the Player's bowls and Frames and times its score updates
+ * - {@link #timed(Renderer)} counts renders and times them
+ * - {@link #timed(InputProvider)} times how long is spent waiting for input
+ *
+ * A score update takes about as long as reading the clock twice, so score updates and renders are
+ * timed one in every {@link #getSampleEvery()} calls, the counters and the input wait see every call.
+ *
+ * Counters are {@link LongAdder}s and latencies are {@link LatencyHistogram}s, so any number of
+ * Players on any number of threads can share one instance without locking.
+ */
+public class BowlingMetrics {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    public static final int DEFAULT_SAMPLE_EVERY = 16;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final LongAdder bowlsAccepted = new LongAdder();
+    private final Map<Frame.RejectReason, LongAdder> bowlsRejected = new EnumMap<>(Frame.RejectReason.class);
+    private final Map<Frame.ScoreType, LongAdder> framesCompleted = new EnumMap<>(Frame.ScoreType.class);
+    private final LongAdder gamesCompleted = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private final LatencyHistogram updateScores = new LatencyHistogram();
+    private final LatencyHistogram render = new LatencyHistogram();
+    private final LatencyHistogram inputWait = new LatencyHistogram();
+    private final BowlRecorder recorder = new Recorder();
+    private final int sampleEvery;
+
+    public BowlingMetrics() {
+        this(DEFAULT_SAMPLE_EVERY);
+    }
+
+    /**
+     * @param sampleEvery how often score updates and renders are timed, 1 times every call
+     */
+    public BowlingMetrics(int sampleEvery) {
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException("Must sample at least every %s calls".formatted(sampleEvery));
+        }
+        this.sampleEvery = sampleEvery;
+        for (Frame.RejectReason reason : Frame.RejectReason.values()) {
+            bowlsRejected.put(reason, new LongAdder());
+        }
+        for (Frame.ScoreType type : Frame.ScoreType.values()) {
+            framesCompleted.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * Starts collecting the bowls, Frames and score update latency of a Player.
+     * This should be called before bowls are added and from the same thread.
+     * @param player the Player to measure
+     * @return the Player given
+     */
+    public Player instrument(Player player) {
+        player.setBowlRecorder(recorder, sampleEvery);
+        return player;
+    }
+
+    /**
+     * Wraps a renderer so each render is counted and one in every {@link #getSampleEvery()} is timed.
+     * The renderer returned should only be called from one thread, as the renderers themselves are.
+     * @param renderer the renderer to time
+     * @return a renderer passing each Player on to the one given
+     */
+    public Renderer timed(Renderer renderer) {
+        return new Renderer() {
+            private int untilTimed = sampleEvery;
+
+            @Override
+            public void render(Player player) {
+                renders.increment();
+                if (--untilTimed > 0) {
+                    renderer.render(player);
+                    return;
+                }
+                untilTimed = sampleEvery;
+                long start = System.nanoTime();
+                renderer.render(player);
+                render.recordSince(start);
+            }
+        };
+    }
+
+    /**
+     * Wraps an input provider so the time spent waiting for each input, or batch of inputs, is recorded
+     * @param inputProvider the input provider to time
+     * @return an input provider taking its input from the one given
+     */
+    public InputProvider timed(InputProvider inputProvider) {
+        return new InputProvider() {
+            @Override
+            public int getInput() {
+                long start = System.nanoTime();
+                int input = inputProvider.getInput();
+                inputWait.recordSince(start);
+                return input;
+            }
+
+            @Override
+            public int getInput(int[] inputs) {
+                long start = System.nanoTime();
+                int count = inputProvider.getInput(inputs);
+                inputWait.recordSince(start);
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Counts each bowl and each Frame as it is completed, a Frame is counted by its score type
+     * so the strike and spare rates are the strikes and spares over all the Frames completed
+     */
+    private class Recorder implements BowlRecorder {
+        @Override
+        public void bowlAccepted(Frame frame, boolean gameComplete) {
+            bowlsAccepted.increment();
+            if (frame.getStatus() == Frame.FrameState.COMPLETE) {
+                framesCompleted.get(frame.getScoreType()).increment();
+            }
+            if (gameComplete) {
+                gamesCompleted.increment();
+            }
+        }
+
+        @Override
+        public void bowlRejected(Frame.RejectReason reason) {
+            bowlsRejected.get(reason).increment();
+        }
+
+        @Override
+        public void scoresUpdated(long nanos) {
+            updateScores.record(nanos);
+        }
+    }
+
+    /**
+     * @return how often score updates and renders are timed
+     */
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    /**
+     * @return the number of renders by timed renderers
+     */
+    public long getRenders() {
+        return renders.sum();
+    }
+
+    /**
+     * @return the number of bowls added to instrumented Players
+     */
+    public long getBowlsAccepted() {
+        return bowlsAccepted.sum();
+    }
+
+    /**
+     * @param reason the reason the bowls were rejected
+     * @return the number of bowls rejected by instrumented Players for the reason given
+     */
+    public long getBowlsRejected(Frame.RejectReason reason) {
+        return bowlsRejected.get(reason).sum();
+    }
+
+    /**
+     * @param type the score type of the Frames
+     * @return the number of Frames completed with the score type given
+     */
+    public long getFramesCompleted(Frame.ScoreType type) {
+        return framesCompleted.get(type).sum();
+    }
+
+    /**
+     * @return the number of games completed by instrumented Players
+     */
+    public long getGamesCompleted() {
+        return gamesCompleted.sum();
+    }
+
+    /**
+     * Returns the fraction of completed Frames with the score type given
+     * @param type the score type, such as {@link Frame.ScoreType#STRIKE}
+     * @return the rate between 0 and 1, zero if no Frames have been completed
+     */
+    public double getRate(Frame.ScoreType type) {
+        long total = 0;
+        for (LongAdder frames : framesCompleted.values()) {
+            total += frames.sum();
+        }
+        return total == 0 ? 0 : (double) getFramesCompleted(type) / total;
+    }
+
+    /**
+     * @return the time taken to rescore a Player after the bowls sampled
+     */
+    public LatencyHistogram getUpdateScoresLatency() {
+        return updateScores;
+    }
+
+    /**
+     * @return the time taken by the renders sampled
+     */
+    public LatencyHistogram getRenderLatency() {
+        return render;
+    }
+
+    /**
+     * @return the time spent waiting for input
+     */
+    public LatencyHistogram getInputWait() {
+        return inputWait;
+    }
+
+    /**
+     * Writes every metric in the Prometheus text format, latencies are written as summaries in seconds
+     * @param out where to write the metrics
+     */
+    public void writePrometheus(StringBuilder out) {
+        counter(out, "bowling_bowls_accepted_total", "Bowls added to a game");
+        sample(out, "bowling_bowls_accepted_total", "", bowlsAccepted.sum());
+        counter(out, "bowling_bowls_rejected_total", "Bowls rejected by a game");
+        for (Map.Entry<Frame.RejectReason, LongAdder> entry : bowlsRejected.entrySet()) {
+            sample(out, "bowling_bowls_rejected_total", label("reason", entry.getKey()), entry.getValue().sum());
+        }
+        counter(out, "bowling_frames_completed_total", "Frames completed by score type");
+        for (Map.Entry<Frame.ScoreType, LongAdder> entry : framesCompleted.entrySet()) {
+            sample(out, "bowling_frames_completed_total", label("type", entry.getKey()), entry.getValue().sum());
+        }
+        gauge(out, "bowling_strike_rate", "Fraction of completed Frames that were strikes");
+        sample(out, "bowling_strike_rate", "", getRate(Frame.ScoreType.STRIKE));
+        gauge(out, "bowling_spare_rate", "Fraction of completed Frames that were spares");
+        sample(out, "bowling_spare_rate", "", getRate(Frame.ScoreType.SPARE));
+        counter(out, "bowling_games_completed_total", "Games completed");
+        sample(out, "bowling_games_completed_total", "", gamesCompleted.sum());
+        counter(out, "bowling_renders_total", "Games rendered");
+        sample(out, "bowling_renders_total", "", renders.sum());
+        String sampled = " (sampled 1 in %d)".formatted(sampleEvery);
+        summary(out, "bowling_update_scores_seconds", "Time to rescore a game after a bowl" + sampled, updateScores);
+        summary(out, "bowling_render_seconds", "Time to render a game" + sampled, render);
+        summary(out, "bowling_input_wait_seconds", "Time spent waiting for input", inputWait);
+    }
+
+    /**
+     * Returns every metric in the Prometheus text format
+     * @return the metrics
+     */
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        writePrometheus(out);
+        return out.toString();
+    }
+
+    private static void counter(StringBuilder out, String name, String help) {
+        header(out, name, help, "counter");
+    }
+
+    private static void gauge(StringBuilder out, String name, String help) {
+        header(out, name, help, "gauge");
+    }
+
+    private static void summary(StringBuilder out, String name, String help, LatencyHistogram histogram) {
+        header(out, name, help, "summary");
+        for (double quantile : QUANTILES) {
+            sample(out, name, "{quantile=\"%s\"}".formatted(quantile), histogram.getValueAtPercentile(quantile * 100) / NANOS_PER_SECOND);
+        }
+        sample(out, name + "_sum", "", histogram.getSum() / NANOS_PER_SECOND);
+        sample(out, name + "_count", "", histogram.getCount());
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String label(String name, Enum<?> value) {
+        return "{%s=\"%s\"}".formatted(name, value.name().toLowerCase());
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+}
@@ -0,0 +1,126 @@
+package com.f8software.bowling.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LatencyHistogram records durations in nanoseconds into log-linear buckets in the same way as an
+ * HDR histogram. Values below {@link #SUB_BUCKETS} each have their own bucket, above that every power of
+ * two is split into {@link #SUB_BUCKETS} / 2 buckets, so any recorded value is reported to within
+ * about 1.6% no matter how large it is. Values above {@link #MAX_VALUE} are recorded as the maximum.
+ *
+ * Recording never locks or allocates, so many threads can record into the same histogram
+ * while another reads it. A reading taken while values are being recorded may miss the latest values.
+ */
+public class LatencyHistogram {
+    public static final int SUB_BUCKETS = 128;
+    public static final long MAX_VALUE = TimeUnit.HOURS.toNanos(1);
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int HALF_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single duration
+     * @param nanos the duration in nanoseconds, negative durations are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Records the time since a start time taken from {@link System#nanoTime()}
+     * @param startNanos the start time
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return the number of durations recorded
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @return the total of all the durations recorded in nanoseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return the longest duration recorded in nanoseconds, zero if none have been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the duration that the given fraction of recorded durations are at or below. The value returned
+     * is the highest value of the bucket holding the percentile, so it is never less than the true value.
+     * @param percentile the percentile between 0 and 100
+     * @return the duration in nanoseconds, zero if none have been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile %s must be between 0 and 100".formatted(percentile));
+        }
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Finds the bucket for a value, the values below {@link #SUB_BUCKETS} map to themselves and each
+     * power of two above is split into {@link #HALF_BUCKETS} buckets using the top bits of the value
+     */
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift - 1) * HALF_BUCKETS + (int) (value >>> shift) - HALF_BUCKETS;
+    }
+
+    /**
+     * Returns the highest value that maps to a bucket
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_BUCKETS + 1;
+        long lowest = (long) ((index - SUB_BUCKETS) % HALF_BUCKETS + HALF_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
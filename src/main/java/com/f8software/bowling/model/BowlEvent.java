@@ -0,0 +1,168 @@
+package com.f8software.bowling.model;
+
+/**
+ * A BowlEvent describes what a single call to {@link Player#addBowl(int)} changed, so a listener
+ * can update its own view of the game without comparing every Frame. It holds:
+ * - the bowl and whether it was accepted, with the reason if it was rejected
+ * - the Frame bowled in, its bowls and any change to its {@link Frame.FrameState} or {@link Frame.ScoreType}
+ * - the running scores that changed, a bowl can change at most the Frame bowled in and the two before
+ *
+ * Events are immutable so they can be handed to other threads.
+ */
+public class BowlEvent {
+    private static final int[] NONE = new int[0];
+    private final long version;
+    private final int bowl;
+    private final Frame.RejectReason rejectReason;
+    private final int frame;
+    private final int[] frameBowls;
+    private final Frame.FrameState previousState;
+    private final Frame.FrameState state;
+    private final Frame.ScoreType previousScoreType;
+    private final Frame.ScoreType scoreType;
+    private final int firstChangedFrame;
+    private final int[] scores;
+    private final int totalScore;
+    private final boolean gameComplete;
+
+    BowlEvent(long version, int bowl, Frame.RejectReason rejectReason, int frame, Frame current,
+              Frame.FrameState previousState, Frame.ScoreType previousScoreType,
+              int firstChangedFrame, int[] scores, int totalScore, boolean gameComplete) {
+        this.version = version;
+        this.bowl = bowl;
+        this.rejectReason = rejectReason;
+        this.frame = frame;
+        this.frameBowls = new int[current.getBowlCount()];
+        for (int i = 0; i < frameBowls.length; i++) {
+            frameBowls[i] = current.getBowl(i);
+        }
+        this.previousState = previousState;
+        this.state = current.getStatus();
+        this.previousScoreType = previousScoreType;
+        this.scoreType = current.getScoreType();
+        this.firstChangedFrame = firstChangedFrame;
+        this.scores = scores == null ? NONE : scores;
+        this.totalScore = totalScore;
+        this.gameComplete = gameComplete;
+    }
+
+    /**
+     * Returns the number of bowls in the game after this one, the same as the version of
+     * the Player's {@link ScoreSnapshot}. A rejected bowl does not change the version.
+     * @return the version of the game
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the pins knocked down
+     */
+    public int getBowl() {
+        return bowl;
+    }
+
+    /**
+     * @return true if the bowl was added to the game
+     */
+    public boolean isAccepted() {
+        return rejectReason == null;
+    }
+
+    /**
+     * @return the reason the bowl was rejected, or null if it was accepted
+     */
+    public Frame.RejectReason getRejectReason() {
+        return rejectReason;
+    }
+
+    /**
+     * @return the index of the Frame bowled in, starting at zero
+     */
+    public int getFrame() {
+        return frame;
+    }
+
+    /**
+     * @return the number of bowls in the Frame bowled in after this bowl
+     */
+    public int getFrameBowlCount() {
+        return frameBowls.length;
+    }
+
+    /**
+     * Returns a bowl from the Frame bowled in
+     * @param i the index of the bowl in the Frame, starting at zero
+     * @return the pins knocked down
+     */
+    public int getFrameBowl(int i) {
+        return frameBowls[i];
+    }
+
+    /**
+     * @return the state of the Frame bowled in before this bowl
+     */
+    public Frame.FrameState getPreviousState() {
+        return previousState;
+    }
+
+    /**
+     * @return the state of the Frame bowled in after this bowl
+     */
+    public Frame.FrameState getState() {
+        return state;
+    }
+
+    /**
+     * @return the score type of the Frame bowled in before this bowl
+     */
+    public Frame.ScoreType getPreviousScoreType() {
+        return previousScoreType;
+    }
+
+    /**
+     * @return the score type of the Frame bowled in after this bowl
+     */
+    public Frame.ScoreType getScoreType() {
+        return scoreType;
+    }
+
+    /**
+     * Returns the first Frame whose running score changed or which was started by this bowl.
+     * Every Frame from here to the Frame bowled in changed, as running scores carry forward.
+     * @return the index of the first changed Frame, or one past the Frame bowled in if none changed
+     */
+    public int getFirstChangedFrame() {
+        return firstChangedFrame;
+    }
+
+    /**
+     * @return the number of Frames whose running score changed
+     */
+    public int getChangedFrameCount() {
+        return scores.length;
+    }
+
+    /**
+     * Returns the new running score of a changed Frame
+     * @param frame the index of the Frame in the game, from {@link #getFirstChangedFrame()} to {@link #getFrame()}
+     * @return the running score of the Frame
+     */
+    public int getScore(int frame) {
+        return scores[frame - firstChangedFrame];
+    }
+
+    /**
+     * @return the running total of the game after this bowl
+     */
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * @return true if the game is complete after this bowl
+     */
+    public boolean isGameComplete() {
+        return gameComplete;
+    }
+}
@@ -0,0 +1,10 @@
+package com.f8software.bowling.model;
+
+/**
+ * This is a simple functional interface to be notified of every bowl a Player is given,
+ * whether it is accepted or rejected. It is called on the thread adding bowls after the
+ * scores have been updated.
+ */
+public interface BowlListener {
+    void bowled(Player player, BowlEvent event);
+}
@@ -0,0 +1,29 @@
+package com.f8software.bowling.model;
+
+/**
+ * A BowlRecorder is told what happens to each bowl a Player is given so it can be counted or timed.
+ * Unlike a {@link BowlListener} no event is built, so recording costs no more than the calls themselves.
+ * It is called on the thread adding bowls.
+ */
+public interface BowlRecorder {
+
+    /**
+     * Called after an accepted bowl has been scored
+     * @param frame the Frame the bowl was added to, it is complete if the bowl completed it
+     * @param gameComplete true if the bowl completed the game
+     */
+    void bowlAccepted(Frame frame, boolean gameComplete);
+
+    /**
+     * Called when a bowl is rejected
+     * @param reason why the bowl was rejected
+     */
+    void bowlRejected(Frame.RejectReason reason);
+
+    /**
+     * Called with the time taken to update the scores after a bowl, only one in every
+     * {@link Player#setBowlRecorder(BowlRecorder, int)} bowls is timed
+     * @param nanos the time taken in nanoseconds
+     */
+    void scoresUpdated(long nanos);
+}
@@ -3,7 +3,7 @@ package com.f8software.bowling.model;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
 
 /**
@@ -15,10 +15,14 @@ public class Frame {
     private final static Logger logger = LogManager.getLogger(Frame.class);
     private FrameState state = FrameState.NEW;
     private ScoreType scoreType = ScoreType.NORMAL;
-    private final List<Integer> bowls = new ArrayList<>();
     private static final int MAX_PINS = 10;
+    private static final int MAX_BOWLS = 3;
+    private final byte[] bowls = new byte[MAX_BOWLS];
+    private int bowlCount;
+    private int total;
     private int score;
     private boolean isLastFrame;
+    private boolean readOnly;
 
     /**
      * Frame states are mutually exclusive so are modeled using an Enum
@@ -30,13 +34,51 @@ public class Frame {
      */
     public enum ScoreType {NORMAL, SPARE, STRIKE}
 
+    /**
+     * The reasons a bowl can be rejected, a bowl has at most one so they are modeled using an Enum
+     */
+    public enum RejectReason {NEGATIVE_PINS, TOO_MANY_PINS, FRAME_COMPLETE, GAME_COMPLETE}
+
     /**
      * Return the bowls for the Frame, this could have 0, 1, 2 or 3 depending
      * on the state of the Frame
+     * This is a read only view over the bowls - use {@link #getBowlCount()} and
+     * {@link #getBowl(int)} to read them without boxing
      * @return
      */
     public List<Integer> getBowls() {
-        return bowls;
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                if (index < 0 || index >= bowlCount) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return (int) bowls[index];
+            }
+
+            @Override
+            public int size() {
+                return bowlCount;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of bowls that have taken place in this Frame
+     * @return 0, 1, 2 or 3 depending on the state of the Frame
+     */
+    public int getBowlCount() {
+        return bowlCount;
+    }
+
+    /**
+     * Returns the score for a bowl from this frame if it has taken place.
+     * If the bowl has not taken place then zero is returned
+     * @param i the index of the bowl in this Frame, starting at zero
+     * @return The score of the bowl - can be zero
+     */
+    public int getBowl(int i) {
+        return getBowlScore(i);
     }
 
     /**
@@ -53,6 +95,7 @@ public class Frame {
      * @param isLastFrame
      */
     public void setLastFrame(boolean isLastFrame) {
+        checkWritable();
         this.isLastFrame = isLastFrame;
     }
 
@@ -62,16 +105,33 @@ public class Frame {
      * @return
      */
     public boolean addBowl(int bowl) {
+        checkWritable();
         boolean valid = validate(bowl);
         if (valid) {
-            bowls.add(bowl);
             updateState(bowl);
-        } else {
-            logger.warn("Invalid bowl, there are only %s pins left".formatted(getPinsLeft()));
+        } else if (logger.isWarnEnabled()) {
+            logger.warn("Invalid bowl {} ({}), there are only {} pins left", bowl, getRejectReason(bowl), getPinsLeft());
         }
         return valid;
     }
 
+    /**
+     * Returns the reason a bowl would be rejected by {@link #addBowl(int)}, without adding it.
+     * This follows the same validation as adding the bowl
+     * @param bowl the number of pins knocked down
+     * @return the reason the bowl is invalid, or null if it would be accepted
+     */
+    public RejectReason getRejectReason(int bowl) {
+        if (state == FrameState.COMPLETE) {
+            return RejectReason.FRAME_COMPLETE;
+        } else if (bowl < 0) {
+            return RejectReason.NEGATIVE_PINS;
+        } else if (!validate(bowl)) {
+            return RejectReason.TOO_MANY_PINS;
+        }
+        return null;
+    }
+
     /**
      * Utility method to return any score of the first bowl
      * If the bowl has not taken place yet, zero will be returned
@@ -108,6 +168,8 @@ public class Frame {
         if (state == FrameState.COMPLETE) {
             throw new IllegalStateException("You cannot add a bowl after Frame has completed");
         }
+        bowls[bowlCount++] = (byte) bowled;
+        total += bowled;
 
         if (!isLastFrame) {
             updateStateForFrame(bowled);
@@ -167,6 +229,7 @@ public class Frame {
      * @param score
      */
     public void setScore(int score) {
+        checkWritable();
         this.score = score;
     }
 
@@ -200,10 +263,6 @@ public class Frame {
      * @return
      */
     public int totalBowled() {
-        int total = 0;
-        for (Integer bowl : bowls) {
-            total += bowl;
-        }
         return total;
     }
 
@@ -230,21 +289,21 @@ public class Frame {
      * @return
      */
     private int getBowlScore(int i) {
-        if (i < bowls.size()) {
-            Integer bowl = bowls.get(i);
-            if (bowl != null) {
-                return bowl;
-            }
+        if (i >= 0 && i < bowlCount) {
+            return bowls[i];
         }
         return 0;
     }
 
     /**
      * Calculates the pins left to knockdown in this frame. This is used to validate the
-     * bowls being added to this Frame
-     * @return
+     * bowls being added to this Frame, a bowl from zero up to the pins left is valid
+     * @return the pins left standing, zero once the Frame is complete as no more bowls can be added
      */
-    private int getPinsLeft() {
+    public int getPinsLeft() {
+        if (state == FrameState.COMPLETE) {
+            return 0;
+        }
         if (isLastFrame && (isSpare() || isStrike())) {
             if (isDoubleStrike() || isSpare()) {
                 return MAX_PINS;
@@ -274,6 +333,38 @@ public class Frame {
      * @return True is the bowl is a valid value and not below zero of above the remaining pins in th Frame
      */
     private boolean validate(int bowl) {
-        return bowl >= 0 && bowl <= getPinsLeft();
+        return state != FrameState.COMPLETE && bowl >= 0 && bowl <= getPinsLeft();
+    }
+
+    /**
+     * Creates a read only copy of this Frame, used by the Player to publish snapshots
+     * that can be read from other threads while this Frame continues to change
+     * @return a copy of this Frame that cannot be changed
+     */
+    Frame readOnlyCopy() {
+        Frame copy = new Frame();
+        copy.state = state;
+        copy.scoreType = scoreType;
+        System.arraycopy(bowls, 0, copy.bowls, 0, MAX_BOWLS);
+        copy.bowlCount = bowlCount;
+        copy.total = total;
+        copy.score = score;
+        copy.isLastFrame = isLastFrame;
+        copy.readOnly = true;
+        return copy;
+    }
+
+    /**
+     * Returns true if this Frame is a read only copy taken for a snapshot
+     * @return true if the Frame cannot be changed
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("You cannot change a read only copy of a Frame");
+        }
     }
 }
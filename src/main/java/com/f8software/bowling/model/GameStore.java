@@ -0,0 +1,239 @@
+package com.f8software.bowling.model;
+
+import com.f8software.bowling.BowlingGame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The GameStore class holds many games of bowling packed into a single byte array.
+ * Each game uses a fixed slot of {@link #SLOT_SIZE} bytes - one byte per bowl (a game
+ * can have at most {@link #MAX_BOWLS}) followed by a small header tracking the frame
+ * being played. There are no per game objects, so millions of games can be held in memory.
+ *
+ * Games are identified by the index returned from {@link #newGame()} and follow the same
+ * rules as a {@link Player} - invalid bowls are rejected and the scores for each Frame
+ * match {@link Player#getScores()}.
+ */
+public class GameStore {
+    public static final int MAX_BOWLS = 21;
+    public static final int SLOT_SIZE = 24;
+    // The largest array the JVM will reliably allocate is a few bytes short of Integer.MAX_VALUE
+    public static final int MAX_GAMES = (Integer.MAX_VALUE - 8) / SLOT_SIZE;
+    private static final int MAX_PINS = 10;
+    private static final int LAST_FRAME = BowlingGame.MAX_FRAMES - 1;
+    // Header offsets within a slot, following the bowls
+    private static final int BOWL_COUNT = MAX_BOWLS;
+    private static final int FRAME_INDEX = MAX_BOWLS + 1;
+    private static final int FRAME_BOWLS = MAX_BOWLS + 2;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private byte[] slots;
+    private int size;
+
+    public GameStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of games to allocate room for up front, at most {@link #MAX_GAMES}
+     */
+    public GameStore(int capacity) {
+        if (capacity > MAX_GAMES) {
+            throw new IllegalArgumentException("Capacity %s is more than the maximum of %s games".formatted(capacity, MAX_GAMES));
+        }
+        slots = new byte[Math.max(capacity, 1) * SLOT_SIZE];
+    }
+
+    /**
+     * Adds a new empty game to the store
+     * @return the index of the game used to identify it in the other methods
+     * @throws IllegalStateException if the store already holds {@link #MAX_GAMES} games
+     */
+    public int newGame() {
+        if (size == MAX_GAMES) {
+            throw new IllegalStateException("The store is full with %s games".formatted(size));
+        }
+        if (size == slots.length / SLOT_SIZE) {
+            slots = Arrays.copyOf(slots, grownCapacity(size) * SLOT_SIZE);
+        }
+        return size++;
+    }
+
+    /**
+     * Doubles the number of games there is room for without going past {@link #MAX_GAMES}
+     */
+    static int grownCapacity(int capacity) {
+        return (int) Math.min(capacity * 2L, MAX_GAMES);
+    }
+
+    /**
+     * Returns the number of games held in this store
+     * @return the number of games
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This method will try to add a bowl to the game, following the same rules as
+     * {@link Player#addBowl(int)}.
+     * If the bowl is rejected because it is invalid or the game is over then this method will
+     * return false, otherwise true
+     * @param game the index of the game
+     * @param bowl this is the number of pins knocked down - can be zero
+     * @return true if successfully added to the game
+     */
+    public boolean addBowl(int game, int bowl) {
+        int base = slot(game);
+        if (isComplete(game) || bowl < 0 || bowl > getPinsLeft(base)) {
+            return false;
+        }
+        int count = slots[base + BOWL_COUNT];
+        int frameBowls = slots[base + FRAME_BOWLS] + 1;
+        slots[base + count] = (byte) bowl;
+        slots[base + BOWL_COUNT] = (byte) (count + 1);
+        slots[base + FRAME_BOWLS] = (byte) frameBowls;
+        if (slots[base + FRAME_INDEX] < LAST_FRAME && (bowl == MAX_PINS && frameBowls == 1 || frameBowls == 2)) {
+            slots[base + FRAME_INDEX]++;
+            slots[base + FRAME_BOWLS] = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true once the last Frame of the game has been completed
+     * @param game the index of the game
+     * @return true if no more bowls can be added
+     */
+    public boolean isComplete(int game) {
+        int base = slot(game);
+        if (slots[base + FRAME_INDEX] < LAST_FRAME) {
+            return false;
+        }
+        int frameBowls = slots[base + FRAME_BOWLS];
+        int start = slots[base + BOWL_COUNT] - frameBowls;
+        return frameBowls == 3 || frameBowls == 2 && slots[base + start] + slots[base + start + 1] < MAX_PINS;
+    }
+
+    /**
+     * Returns the number of bowls that have taken place in the game
+     * @param game the index of the game
+     * @return the number of bowls
+     */
+    public int getBowlCount(int game) {
+        return slots[slot(game) + BOWL_COUNT];
+    }
+
+    /**
+     * Returns a bowl from the game in the order they were added
+     * @param game the index of the game
+     * @param i the index of the bowl, starting at zero
+     * @return The score of the bowl, zero if it has not taken place
+     */
+    public int getBowl(int game, int i) {
+        int base = slot(game);
+        return i >= 0 && i < slots[base + BOWL_COUNT] ? slots[base + i] : 0;
+    }
+
+    /**
+     * Writes the running score for each Frame that has been started into the array given.
+     * The array must have room for {@link BowlingGame#MAX_FRAMES} scores.
+     * @param game the index of the game
+     * @param scores the array to write the scores into
+     * @return the number of Frames that have been started
+     */
+    public int getScores(int game, int[] scores) {
+        int base = slot(game);
+        int count = slots[base + BOWL_COUNT];
+        int total = 0;
+        int frame = 0;
+        int i = 0;
+        while (i < count) {
+            int first = slots[base + i];
+            if (frame == LAST_FRAME) {
+                for (int j = i; j < count; j++) {
+                    total += slots[base + j];
+                }
+                i = count;
+            } else if (first == MAX_PINS) {
+                total += MAX_PINS + bowlAt(base, count, i + 1) + bowlAt(base, count, i + 2);
+                i++;
+            } else if (i + 1 < count) {
+                int both = first + slots[base + i + 1];
+                total += both == MAX_PINS ? MAX_PINS + bowlAt(base, count, i + 2) : both;
+                i += 2;
+            } else {
+                total += first;
+                i++;
+            }
+            scores[frame++] = total;
+        }
+        return frame;
+    }
+
+    /**
+     * Used to retrieve a list of current scores for each of the Frames that have been started,
+     * mirroring {@link Player#getScores()}
+     * @param game the index of the game
+     * @return List of current scores for each Frame that has been started in this game
+     */
+    public List<Integer> getScores(int game) {
+        int[] scores = new int[BowlingGame.MAX_FRAMES];
+        int frames = getScores(game, scores);
+        List<Integer> result = new ArrayList<>(frames);
+        for (int i = 0; i < frames; i++) {
+            result.add(scores[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a Player holding the same bowls as the game, this can be passed to
+     * a renderer to be displayed
+     * @param game the index of the game
+     * @return a new Player with the bowls of the game added
+     */
+    public Player toPlayer(int game) {
+        Player player = new Player();
+        int count = getBowlCount(game);
+        for (int i = 0; i < count; i++) {
+            player.addBowl(getBowl(game, i));
+        }
+        return player;
+    }
+
+    /**
+     * Calculates the pins left to knockdown in the Frame being played, following the
+     * same rules as a {@link Frame} including the special cases of the last Frame
+     */
+    private int getPinsLeft(int base) {
+        int frameBowls = slots[base + FRAME_BOWLS];
+        if (frameBowls == 0) {
+            return MAX_PINS;
+        }
+        int start = slots[base + BOWL_COUNT] - frameBowls;
+        int first = slots[base + start];
+        if (frameBowls == 1) {
+            return first == MAX_PINS ? MAX_PINS : MAX_PINS - first;
+        }
+        // Only the last Frame can have a third bowl
+        int second = slots[base + start + 1];
+        if (first == MAX_PINS) {
+            return second == MAX_PINS ? MAX_PINS : MAX_PINS - second;
+        }
+        return MAX_PINS;
+    }
+
+    private int bowlAt(int base, int count, int i) {
+        return i < count ? slots[base + i] : 0;
+    }
+
+    private int slot(int game) {
+        if (game < 0 || game >= size) {
+            throw new IndexOutOfBoundsException(game);
+        }
+        return game * SLOT_SIZE;
+    }
+}
@@ -3,20 +3,52 @@ package com.f8software.bowling.model;
 import com.f8software.bowling.BowlingGame;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * The Player class is used to hold the bowling activity and will keep
  * track of bowling frames and scores.
  * After each state change (bowl) the Frame scores will be updated
+ *
+ * A Player is changed by a single thread adding bowls. To read the game from other threads
+ * create the Player to publish snapshots, then any number of threads can call {@link #getSnapshot()},
+ * {@link #getScores()} or render the Player without locking while bowls are being added.
  */
 public class Player {
+    private static final BowlListener[] NO_LISTENERS = new BowlListener[0];
+    private static final int MAX_PINS = 10;
+    private static final int MAX_FRAME_SCORE = 30;
+    private static final int MAX_SCORE = BowlingGame.MAX_FRAMES * MAX_FRAME_SCORE;
+    private static final int CHANGEABLE_FRAMES = 3;
     private final List<Frame> frames = new ArrayList<>();
+    private final boolean publishSnapshots;
+    private BowlListener[] listeners = NO_LISTENERS;
+    private BowlRecorder recorder;
+    private int timeEvery;
+    private int untilTimed;
     private Frame currentFrame;
+    private long version;
+    private int minPossibleScore;
+    private int maxPossibleScore = MAX_SCORE;
+    private volatile ScoreSnapshot snapshot = new ScoreSnapshot(0, Collections.emptyList(), 0, MAX_SCORE);
+
+    public Player() {
+        this(false);
+    }
+
+    /**
+     * @param publishSnapshots true to publish a {@link ScoreSnapshot} after every bowl so the game
+     *                         can be read from other threads
+     */
+    public Player(boolean publishSnapshots) {
+        this.publishSnapshots = publishSnapshots;
+    }
 
     /**
      * Returns the Frames that have been played or started so far in this game
-     * Can be used by a renderer for example to display the status
+     * This is the live list changed as bowls are added, other threads should use {@link #getSnapshot()}
      * @return List of Frames
      */
     public List<Frame> getFrames() {
@@ -38,56 +70,81 @@ public class Player {
     /**
      * This method is called by the Player to update the scores of each Frame
      * after each state change (bowl)
+     * Every Frame is rescored from the start of the game, see {@link #updateScores(int)}
+     * for the incremental version used by {@link #addBowl(int)}
      */
     public void updateScores() {
-        int total = 0;
-        for (int i = 0; i < frames.size() ; i++) {
-            Frame current = frames.get(i);
-            int frameScore;
-            // We know that we have at least 10 if we have a strike or spare
-            if (current.isStrike() || current.isSpare()) {
-                frameScore = 10;
+        updateScores(0);
+    }
+
+    /**
+     * Rescores the Frames from the given index to the end of the game, carrying on from the
+     * running total of the Frame before it.
+     * A bowl can only change the bonus of the Frame it was bowled in and the two Frames
+     * before it (a strike looks ahead two bowls), so after a bowl only the last three
+     * Frames need rescoring regardless of how far into the game we are.
+     * @param from - internal index of the first frame to rescore
+     */
+    private void updateScores(int from) {
+        int start = Math.max(from, 0);
+        int total = start == 0 ? 0 : frames.get(start - 1).getScore();
+        for (int i = start; i < frames.size(); i++) {
+            total += frameScore(i);
+            frames.get(i).setScore(total);
+        }
+    }
+
+    /**
+     * Calculates the score of a single Frame including any strike or spare bonus
+     * that is known so far - this is not the running total
+     * @param i - internal index of the frame
+     * @return The score for the frame on its own
+     */
+    private int frameScore(int i) {
+        Frame current = frames.get(i);
+        int frameScore;
+        // We know that we have at least 10 if we have a strike or spare
+        if (current.isStrike() || current.isSpare()) {
+            frameScore = 10;
+        } else {
+            frameScore = current.totalBowled();
+        }
+        // We can also add more if the next bowl is known
+        if (current.isSpare()) {
+            if (current.isLastFrame()) {
+                frameScore += current.getThirdBowlScore();
             } else {
-                frameScore = current.totalBowled();
+                frameScore += getNextBowlScore(i + 1);
             }
-            // We can also add more if the next bowl is known
-            if (current.isSpare()) {
-                if (current.isLastFrame()) {
-                    frameScore += current.getThirdBowlScore();
-                } else {
-                    frameScore += getNextBowlScore(i + 1);
-                }
-            }
-            // For a strike we need to look ahead to see if we have more to add
-            if (current.isStrike()) {
-                // First look ahead to see if we have any scores yet
-                if (current.isLastFrame()) {
-                    frameScore += current.getSecondBowlScore();
-                    frameScore += current.getThirdBowlScore();
-                } else {
-                    Frame next = lookAhead(i + 1);
-                    if (next != null) {
-                        if (next.isLastFrame()) {
-                            frameScore += next.getFirstBowlScore();
-                            frameScore += next.getSecondBowlScore();
-                        } else {
-                            if (next.isStrike()) {
-                                frameScore += 10;
-                                // Second look ahead
-                                Frame nextAgain = lookAhead(i + 2);
-                                if (nextAgain != null) {
-                                    frameScore += nextAgain.getFirstBowlScore();
-                                }
-                            } else {
-                                frameScore += next.totalBowled();
+        }
+        // For a strike we need to look ahead to see if we have more to add
+        if (current.isStrike()) {
+            // First look ahead to see if we have any scores yet
+            if (current.isLastFrame()) {
+                frameScore += current.getSecondBowlScore();
+                frameScore += current.getThirdBowlScore();
+            } else {
+                Frame next = lookAhead(i + 1);
+                if (next != null) {
+                    if (next.isLastFrame()) {
+                        frameScore += next.getFirstBowlScore();
+                        frameScore += next.getSecondBowlScore();
+                    } else {
+                        if (next.isStrike()) {
+                            frameScore += 10;
+                            // Second look ahead
+                            Frame nextAgain = lookAhead(i + 2);
+                            if (nextAgain != null) {
+                                frameScore += nextAgain.getFirstBowlScore();
                             }
+                        } else {
+                            frameScore += next.totalBowled();
                         }
                     }
                 }
             }
-            total += frameScore;
-            current.setScore(total);
         }
+        return frameScore;
     }
 
     /**
@@ -112,24 +169,162 @@ public class Player {
 
     /**
      * This method will try to add a bowl to the player.
-     * If the bowl is rejected because it is invalid then this method will
+     * If the bowl is rejected because it is invalid or the game is over then this method will
      * return false, otherwise true
      * @param bowl
      * @return true if successfully added to the player
      */
     public boolean addBowl(int bowl) {
-        boolean added = getCurrentFrame().addBowl(bowl);
+        if (isComplete()) {
+            if (recorder != null) {
+                recorder.bowlRejected(Frame.RejectReason.GAME_COMPLETE);
+            }
+            if (listeners.length > 0) {
+                Frame last = frames.get(frames.size() - 1);
+                notifyListeners(bowl, Frame.RejectReason.GAME_COMPLETE, last, last.getStatus(), last.getScoreType(), null);
+            }
+            return false;
+        }
+        Frame frame = getCurrentFrame();
+        Frame.FrameState previousState = frame.getStatus();
+        Frame.ScoreType previousScoreType = frame.getScoreType();
+        // The scores before the bowl are only needed to find what changed for the listeners
+        int[] previousScores = listeners.length > 0 ? changeableScores() : null;
+        boolean added = frame.addBowl(bowl);
         if (added) {
-            updateScores();
+            // Only the current Frame and the two before it can change
+            if (recorder == null || --untilTimed > 0) {
+                updateScores(frames.size() - CHANGEABLE_FRAMES);
+            } else {
+                // Timing every bowl would cost more than the update, so only every timeEvery bowl is timed
+                untilTimed = timeEvery;
+                long start = System.nanoTime();
+                updateScores(frames.size() - CHANGEABLE_FRAMES);
+                recorder.scoresUpdated(System.nanoTime() - start);
+            }
+            updateProjection();
+            version++;
+            if (publishSnapshots) {
+                publishSnapshot();
+            }
+            if (recorder != null) {
+                recorder.bowlAccepted(frame, isComplete());
+            }
+        } else if (recorder != null) {
+            recorder.bowlRejected(frame.getRejectReason(bowl));
+        }
+        if (previousScores != null) {
+            Frame.RejectReason reason = added ? null : frame.getRejectReason(bowl);
+            notifyListeners(bowl, reason, frame, previousState, previousScoreType, added ? previousScores : null);
         }
         return added;
     }
 
+    /**
+     * Returns the running scores of the current Frame and the two before it, a Frame that has
+     * not been bowled in yet is given a score of -1 so that it is seen as changed
+     */
+    private int[] changeableScores() {
+        int first = Math.max(0, frames.size() - CHANGEABLE_FRAMES);
+        int[] scores = new int[frames.size() - first];
+        for (int i = 0; i < scores.length; i++) {
+            Frame frame = frames.get(first + i);
+            scores[i] = frame.getBowlCount() == 0 ? -1 : frame.getScore();
+        }
+        return scores;
+    }
+
+    /**
+     * Creates the event for a bowl and passes it to each listener
+     * @param previousScores the scores from {@link #changeableScores()} before an accepted bowl,
+     *                       or null if the bowl was rejected and nothing changed
+     */
+    private void notifyListeners(int bowl, Frame.RejectReason reason, Frame frame, Frame.FrameState previousState,
+                                 Frame.ScoreType previousScoreType, int[] previousScores) {
+        int firstChanged = frames.size();
+        int[] scores = null;
+        if (previousScores != null) {
+            int first = frames.size() - previousScores.length;
+            while (firstChanged > first && frames.get(firstChanged - 1).getScore() != previousScores[firstChanged - 1 - first]) {
+                firstChanged--;
+            }
+            scores = new int[frames.size() - firstChanged];
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = frames.get(firstChanged + i).getScore();
+            }
+        }
+        // The lowest possible score is the running total as of the last accepted bowl
+        BowlEvent event = new BowlEvent(version, bowl, reason, frames.size() - 1, frame, previousState, previousScoreType,
+                firstChanged, scores, minPossibleScore, isComplete());
+        for (BowlListener listener : listeners) {
+            listener.bowled(this, event);
+        }
+    }
+
+    /**
+     * Returns the reason a bowl would be rejected by {@link #addBowl(int)}, without adding it
+     * @param bowl the number of pins knocked down
+     * @return the reason the bowl is invalid, or null if it would be accepted
+     */
+    public Frame.RejectReason getRejectReason(int bowl) {
+        if (isComplete()) {
+            return Frame.RejectReason.GAME_COMPLETE;
+        }
+        if (currentFrame != null && currentFrame.getStatus() != Frame.FrameState.COMPLETE) {
+            return currentFrame.getRejectReason(bowl);
+        }
+        // The next bowl starts a new Frame with all the pins standing
+        if (bowl < 0) {
+            return Frame.RejectReason.NEGATIVE_PINS;
+        }
+        return bowl > MAX_PINS ? Frame.RejectReason.TOO_MANY_PINS : null;
+    }
+
+    /**
+     * Registers a listener to be notified after each bowl is added to this Player.
+     * Listeners should be added before bowls are added and from the same thread.
+     * @param listener the listener to add
+     */
+    public void addBowlListener(BowlListener listener) {
+        BowlListener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+        added[listeners.length] = listener;
+        listeners = added;
+    }
+
+    /**
+     * Sets the recorder told of every bowl added to this Player and of how long the scores take to update.
+     * This should be set before bowls are added and from the same thread.
+     * @param recorder the recorder, or null to stop recording
+     * @param timeEvery how often the score update is timed, 1 times every bowl
+     */
+    public void setBowlRecorder(BowlRecorder recorder, int timeEvery) {
+        if (timeEvery < 1) {
+            throw new IllegalArgumentException("Must time at least every %s bowls".formatted(timeEvery));
+        }
+        this.recorder = recorder;
+        this.timeEvery = timeEvery;
+        this.untilTimed = timeEvery;
+    }
+
+    /**
+     * Removes a listener added with {@link #addBowlListener(BowlListener)}
+     * @param listener the listener to remove
+     */
+    public void removeBowlListener(BowlListener listener) {
+        List<BowlListener> remaining = new ArrayList<>(Arrays.asList(listeners));
+        if (remaining.remove(listener)) {
+            listeners = remaining.isEmpty() ? NO_LISTENERS : remaining.toArray(NO_LISTENERS);
+        }
+    }
+
     /**
      * Used to retrieve a list of current scores for each of the Frames that have been played or started
      * @return List of current scores for each Frame that exists in this game
      */
     public List<Integer> getScores() {
+        if (publishSnapshots) {
+            return snapshot.getScores();
+        }
         List<Integer> scores = new ArrayList<>();
         for (Frame frame : frames) {
             scores.add(frame.getScore());
@@ -137,6 +332,130 @@ public class Player {
         return scores;
     }
 
+    /**
+     * Returns the running total for the game so far, this is the score of the latest Frame
+     * and is available without building the list from {@link #getScores()}
+     * @return the current total score, zero if no Frames have been played
+     */
+    public int getTotalScore() {
+        if (publishSnapshots) {
+            return snapshot.getTotalScore();
+        }
+        return frames.isEmpty() ? 0 : frames.get(frames.size() - 1).getScore();
+    }
+
+    /**
+     * Returns the lowest final score this game can finish with, if every remaining bowl is a miss.
+     * This is the running total so far.
+     * @return the lowest possible final score
+     */
+    public int getMinPossibleScore() {
+        return publishSnapshots ? snapshot.getMinPossibleScore() : minPossibleScore;
+    }
+
+    /**
+     * Returns the highest final score this game can finish with, if every remaining bowl
+     * knocks down all the pins left
+     * @return the highest possible final score
+     */
+    public int getMaxPossibleScore() {
+        return publishSnapshots ? snapshot.getMaxPossibleScore() : maxPossibleScore;
+    }
+
+    /**
+     * Updates the lowest and highest possible final scores after a bowl, without playing out the
+     * rest of the game. The lowest is the running total. For the highest, the best the rest of the
+     * game can do is knock down the pins left in the Frame being played and then bowl strikes, so:
+     * - every Frame not started yet will score 30
+     * - the Frame being played gains the pins left plus 10 for each bowl after that it still needs
+     * - the two Frames before it gain the pins left and 10 for each bonus bowl still to come
+     */
+    private void updateProjection() {
+        Frame last = frames.get(frames.size() - 1);
+        int current = last.getStatus() == Frame.FrameState.COMPLETE ? frames.size() : frames.size() - 1;
+        int currentBowls = current < frames.size() ? frames.get(current).getBowlCount() : 0;
+        minPossibleScore = last.getScore();
+        if (isComplete()) {
+            maxPossibleScore = minPossibleScore;
+            return;
+        }
+        int pinsLeft = currentBowls == 0 ? MAX_PINS : frames.get(current).getPinsLeft();
+        int max = minPossibleScore + (BowlingGame.MAX_FRAMES - current - (currentBowls == 0 ? 0 : 1)) * MAX_FRAME_SCORE;
+        if (currentBowls > 0) {
+            // Knocking down the pins left makes a strike or spare, which takes one more bowl as a
+            // bonus, or the third bowl of the last Frame, unless two bowls have already been taken
+            max += pinsLeft + (2 - currentBowls) * MAX_PINS;
+        }
+        // Bonus bowls still to come for the two Frames before, the first of which is the pins left
+        Frame previous = current > 0 ? frames.get(current - 1) : null;
+        if (previous != null && previous.isStrike()) {
+            max += bonusStillToCome(2, currentBowls, pinsLeft);
+            Frame beforePrevious = current > 1 ? frames.get(current - 2) : null;
+            if (beforePrevious != null && beforePrevious.isStrike()) {
+                max += bonusStillToCome(1, currentBowls, pinsLeft);
+            }
+        } else if (previous != null && previous.isSpare()) {
+            max += bonusStillToCome(1, currentBowls, pinsLeft);
+        }
+        maxPossibleScore = max;
+    }
+
+    /**
+     * Returns the most a Frame before the current one can still gain from its bonus bowls
+     * @param bonusBowls the number of bowls in the current Frame the bonus is taken from
+     * @param currentBowls the number of bowls already in the current Frame
+     * @param pinsLeft the pins left in the current Frame, the best next bowl
+     */
+    private int bonusStillToCome(int bonusBowls, int currentBowls, int pinsLeft) {
+        int missing = bonusBowls - currentBowls;
+        return missing <= 0 ? 0 : pinsLeft + (missing - 1) * MAX_PINS;
+    }
+
+    /**
+     * Returns the state of the game after the latest bowl.
+     * If this Player publishes snapshots the snapshot is a read only copy that is safe to read from
+     * any thread, otherwise it is a view over the live Frames for use by the thread adding bowls.
+     * @return the latest snapshot of the game
+     */
+    public ScoreSnapshot getSnapshot() {
+        if (publishSnapshots) {
+            return snapshot;
+        }
+        return new ScoreSnapshot(version, Collections.unmodifiableList(frames), minPossibleScore, maxPossibleScore);
+    }
+
+    /**
+     * Returns true if this Player publishes a snapshot after every bowl
+     * @return true if the game can be read from other threads
+     */
+    public boolean isPublishingSnapshots() {
+        return publishSnapshots;
+    }
+
+    /**
+     * Publishes a new snapshot with read only copies of the Frames. Frames before the last three
+     * can no longer change so the copies from the previous snapshot are reused.
+     */
+    private void publishSnapshot() {
+        List<Frame> previous = snapshot.getFrames();
+        int unchanged = Math.min(previous.size(), frames.size() - CHANGEABLE_FRAMES);
+        List<Frame> copies = new ArrayList<>(frames.size());
+        for (int i = 0; i < frames.size(); i++) {
+            copies.add(i < unchanged ? previous.get(i) : frames.get(i).readOnlyCopy());
+        }
+        snapshot = new ScoreSnapshot(version, Collections.unmodifiableList(copies), minPossibleScore, maxPossibleScore);
+    }
+
+    /**
+     * Returns true once the last Frame of the game has been completed, after this
+     * no more bowls will be added
+     * @return true if the game is over
+     */
+    public boolean isComplete() {
+        return frames.size() == BowlingGame.MAX_FRAMES
+                && frames.get(BowlingGame.MAX_FRAMES - 1).getStatus() == Frame.FrameState.COMPLETE;
+    }
+
     /**
      * Returns the current frame being played for the game
      * @return the current Frame
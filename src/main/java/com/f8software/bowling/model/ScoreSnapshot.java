@@ -0,0 +1,88 @@
+package com.f8software.bowling.model;
+
+import com.f8software.bowling.BowlingGame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A ScoreSnapshot is the state of a Player's game after a bowl. A Player that publishes
+ * snapshots creates a new one after every bowl it adds, holding read only copies of the
+ * Frames, so any number of threads can read the scores or render the game without locking
+ * while the Player continues to add bowls.
+ */
+public class ScoreSnapshot {
+    private final long version;
+    private final List<Frame> frames;
+    private final int minPossibleScore;
+    private final int maxPossibleScore;
+
+    ScoreSnapshot(long version, List<Frame> frames, int minPossibleScore, int maxPossibleScore) {
+        this.version = version;
+        this.frames = frames;
+        this.minPossibleScore = minPossibleScore;
+        this.maxPossibleScore = maxPossibleScore;
+    }
+
+    /**
+     * Returns the number of bowls the Player had added when this snapshot was taken,
+     * a reader can compare versions to see if the game has changed
+     * @return the version of this snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the Frames that had been played or started when this snapshot was taken
+     * @return an unmodifiable List of Frames
+     */
+    public List<Frame> getFrames() {
+        return frames;
+    }
+
+    /**
+     * Used to retrieve a list of scores for each of the Frames in this snapshot
+     * @return List of scores for each Frame
+     */
+    public List<Integer> getScores() {
+        List<Integer> scores = new ArrayList<>(frames.size());
+        for (Frame frame : frames) {
+            scores.add(frame.getScore());
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the running total for the game when this snapshot was taken
+     * @return the total score, zero if no Frames had been played
+     */
+    public int getTotalScore() {
+        return frames.isEmpty() ? 0 : frames.get(frames.size() - 1).getScore();
+    }
+
+    /**
+     * Returns the lowest final score the game could finish with from this snapshot
+     * @return the lowest possible final score
+     */
+    public int getMinPossibleScore() {
+        return minPossibleScore;
+    }
+
+    /**
+     * Returns the highest final score the game could finish with from this snapshot
+     * @return the highest possible final score
+     */
+    public int getMaxPossibleScore() {
+        return maxPossibleScore;
+    }
+
+    /**
+     * Returns true if the last Frame of the game had been completed when this snapshot was taken
+     * @return true if the game is over
+     */
+    public boolean isComplete() {
+        return frames.size() == BowlingGame.MAX_FRAMES
+                && frames.get(BowlingGame.MAX_FRAMES - 1).getStatus() == Frame.FrameState.COMPLETE;
+    }
+}
@@ -0,0 +1,119 @@
+package com.f8software.bowling.model;
+
+import com.f8software.bowling.BowlingGame;
+
+import java.util.Arrays;
+
+/**
+ * The Scorer class scores whole games that are already known as a sequence of bowls.
+ * A game is validated and scored in a single pass over the bowls without creating
+ * any Players or Frames, and the scores for each Frame match {@link Player#getScores()}
+ * for the same bowls.
+ *
+ * Unlike a Player, which ignores an invalid bowl so it can be entered again, an invalid
+ * bowl here means the whole game is invalid and an {@link IllegalArgumentException} is thrown.
+ */
+public final class Scorer {
+    private static final int MAX_PINS = 10;
+    private static final int LAST_FRAME = BowlingGame.MAX_FRAMES - 1;
+
+    private Scorer() {
+    }
+
+    /**
+     * Scores a single game
+     * @param bowls the bowls of the game in the order they were played
+     * @return the running score for each Frame that has been started
+     */
+    public static int[] score(int[] bowls) {
+        int[] scores = new int[BowlingGame.MAX_FRAMES];
+        int frames = score(bowls, 0, bowls.length, scores, 0);
+        return frames == scores.length ? scores : Arrays.copyOf(scores, frames);
+    }
+
+    /**
+     * Scores many games held one after another in a single array. The bowls of game i are
+     * held from offsets[i] up to offsets[i + 1], so there is one more offset than there are games.
+     * @param bowls the bowls of all the games
+     * @param offsets the start of each game in the bowls, followed by the end of the last game
+     * @return {@link BowlingGame#MAX_FRAMES} running scores for each game one after another,
+     * Frames that have not been started are left as zero
+     */
+    public static int[] score(int[] bowls, int[] offsets) {
+        int games = offsets.length - 1;
+        int[] scores = new int[Math.max(games, 0) * BowlingGame.MAX_FRAMES];
+        for (int game = 0; game < games; game++) {
+            score(bowls, offsets[game], offsets[game + 1], scores, game * BowlingGame.MAX_FRAMES);
+        }
+        return scores;
+    }
+
+    /**
+     * Validates and scores the bowls of a single game held in part of an array, writing the
+     * running score for each Frame into the scores array. Nothing is allocated unless the game is invalid.
+     * @param bowls the array holding the bowls of the game
+     * @param from the index of the first bowl of the game
+     * @param to the index after the last bowl of the game
+     * @param scores the array to write the scores into, needs room for {@link BowlingGame#MAX_FRAMES}
+     * @param offset the index in scores to write the score of the first Frame
+     * @return the number of Frames that have been started
+     * @throws IllegalArgumentException if a bowl is invalid or there are more bowls than the game allows
+     */
+    public static int score(int[] bowls, int from, int to, int[] scores, int offset) {
+        int total = 0;
+        int frame = 0;
+        int i = from;
+        while (i < to) {
+            int first = validate(bowls, i, MAX_PINS);
+            if (frame == LAST_FRAME) {
+                total += scoreLastFrame(bowls, i, to, first);
+                i = to;
+            } else if (first == MAX_PINS) {
+                total += MAX_PINS + bowlAt(bowls, i + 1, to) + bowlAt(bowls, i + 2, to);
+                i++;
+            } else if (i + 1 < to) {
+                int both = first + validate(bowls, i + 1, MAX_PINS - first);
+                total += both == MAX_PINS ? MAX_PINS + bowlAt(bowls, i + 2, to) : both;
+                i += 2;
+            } else {
+                total += first;
+                i++;
+            }
+            scores[offset + frame++] = total;
+        }
+        return frame;
+    }
+
+    /**
+     * Validates and totals the last Frame of a game which may have a third bowl
+     * after a strike or spare
+     */
+    private static int scoreLastFrame(int[] bowls, int i, int to, int first) {
+        if (i + 1 >= to) {
+            return first;
+        }
+        int second = validate(bowls, i + 1, first == MAX_PINS ? MAX_PINS : MAX_PINS - first);
+        boolean thirdAllowed = first + second >= MAX_PINS;
+        int allowed = thirdAllowed ? 3 : 2;
+        if (to - i > allowed) {
+            throw new IllegalArgumentException("Too many bowls, the game is complete before bowl %s".formatted(i + allowed));
+        }
+        if (i + 2 >= to) {
+            return first + second;
+        }
+        int pinsLeft = first == MAX_PINS && second != MAX_PINS ? MAX_PINS - second : MAX_PINS;
+        return first + second + validate(bowls, i + 2, pinsLeft);
+    }
+
+    private static int validate(int[] bowls, int i, int pinsLeft) {
+        int bowl = bowls[i];
+        if (bowl < 0 || bowl > pinsLeft) {
+            throw new IllegalArgumentException("Invalid bowl %s at %s, there are only %s pins left".formatted(bowl, i, pinsLeft));
+        }
+        return bowl;
+    }
+
+    private static int bowlAt(int[] bowls, int i, int to) {
+        return i < to ? bowls[i] : 0;
+    }
+}
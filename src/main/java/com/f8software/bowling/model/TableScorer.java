@@ -0,0 +1,93 @@
+package com.f8software.bowling.model;
+
+import com.f8software.bowling.BowlingGame;
+
+import java.util.Arrays;
+
+/**
+ * The TableScorer class scores games using tables of precomputed Frame outcomes instead of
+ * checking for strikes and spares. The score of a Frame, including any bonus, and the number of
+ * bowls it uses depend only on its first bowl and the two bowls after it, so both are looked up
+ * in tables indexed by those three bowls. Bowls that have not taken place yet count as zero,
+ * giving the same running scores as {@link Player#getScores()}.
+ *
+ * The bowls are not validated, use {@link Scorer} for games that may be invalid.
+ */
+public final class TableScorer {
+    private static final int MAX_PINS = 10;
+    private static final int BOWL_VALUES = MAX_PINS + 1;
+    private static final int LAST_FRAME = BowlingGame.MAX_FRAMES - 1;
+    // Indexed by first * 121 + second * 11 + third
+    private static final byte[] FRAME_SCORES = new byte[BOWL_VALUES * BOWL_VALUES * BOWL_VALUES];
+    private static final byte[] FRAME_BOWLS = new byte[BOWL_VALUES * BOWL_VALUES * BOWL_VALUES];
+
+    static {
+        for (int first = 0; first <= MAX_PINS; first++) {
+            for (int second = 0; second <= MAX_PINS; second++) {
+                for (int third = 0; third <= MAX_PINS; third++) {
+                    int index = index(first, second, third);
+                    if (first == MAX_PINS) {
+                        FRAME_SCORES[index] = (byte) (MAX_PINS + second + third);
+                        FRAME_BOWLS[index] = 1;
+                    } else if (first + second == MAX_PINS) {
+                        FRAME_SCORES[index] = (byte) (MAX_PINS + third);
+                        FRAME_BOWLS[index] = 2;
+                    } else {
+                        FRAME_SCORES[index] = (byte) (first + second);
+                        FRAME_BOWLS[index] = 2;
+                    }
+                }
+            }
+        }
+    }
+
+    private TableScorer() {
+    }
+
+    /**
+     * Scores a single game
+     * @param bowls the bowls of the game in the order they were played
+     * @return the running score for each Frame that has been started
+     */
+    public static int[] score(int[] bowls) {
+        int[] scores = new int[BowlingGame.MAX_FRAMES];
+        int frames = score(bowls, 0, bowls.length, scores, 0);
+        return frames == scores.length ? scores : Arrays.copyOf(scores, frames);
+    }
+
+    /**
+     * Scores the bowls of a single valid game held in part of an array, writing the
+     * running score for each Frame into the scores array
+     * @param bowls the array holding the bowls of the game
+     * @param from the index of the first bowl of the game
+     * @param to the index after the last bowl of the game
+     * @param scores the array to write the scores into, needs room for {@link BowlingGame#MAX_FRAMES}
+     * @param offset the index in scores to write the score of the first Frame
+     * @return the number of Frames that have been started
+     */
+    public static int score(int[] bowls, int from, int to, int[] scores, int offset) {
+        int total = 0;
+        int frame = 0;
+        int i = from;
+        while (i < to && frame < LAST_FRAME) {
+            int index = index(bowls[i], bowlAt(bowls, i + 1, to), bowlAt(bowls, i + 2, to));
+            total += FRAME_SCORES[index];
+            i += FRAME_BOWLS[index];
+            scores[offset + frame++] = total;
+        }
+        if (i < to) {
+            // The last Frame scores the bowls in it with no bonus
+            total += bowls[i] + bowlAt(bowls, i + 1, to) + bowlAt(bowls, i + 2, to);
+            scores[offset + frame++] = total;
+        }
+        return frame;
+    }
+
+    private static int index(int first, int second, int third) {
+        return first * BOWL_VALUES * BOWL_VALUES + second * BOWL_VALUES + third;
+    }
+
+    private static int bowlAt(int[] bowls, int i, int to) {
+        return i < to ? bowls[i] : 0;
+    }
+}
@@ -0,0 +1,474 @@
+package com.f8software.bowling.persistence;
+
+import com.f8software.bowling.model.BowlListener;
+import com.f8software.bowling.model.Player;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * The GameJournal keeps games of bowling safe from the process dying. Every bowl added to a
+ * journaled {@link Player} is appended to a write ahead log, and a compact snapshot of all the games
+ * is taken periodically after which the log is started again.
+ *
+ * Bowls are written and synced to disk in batches (group commit) - a batch is committed once it holds
+ * a number of bowls or a number of milliseconds has passed, whichever comes first. A bowl is only
+ * guaranteed to survive a crash once its batch has been committed, {@link #commit()} can be called
+ * to commit straight away. If a batch fails to be written any part of it in the log is removed and the
+ * whole batch is written again by the next commit, ahead of the bowls added since.
+ *
+ * Bowls are journaled by a listener on the Player, so a bowl that cannot be journaled - because the
+ * journal is closed, or the log keeps failing until there is no room left to hold more bowls - makes
+ * {@link Player#addBowl(int)} throw after the Player has already accepted the bowl. That bowl is
+ * not in the journal and is lost if the process dies.
+ *
+ * Games stay in the journal, and in every snapshot, until they are removed with {@link #removeGame(long)},
+ * which is logged like a bowl so a removed game is not recovered.
+ *
+ * When a journal is opened it recovers the games by loading the latest snapshot and replaying the
+ * bowls in the log after it. Each record in the log has a sequence number and the snapshot records
+ * the sequence it covers, so bowls are never replayed twice.
+ */
+public class GameJournal implements AutoCloseable {
+    final static Logger logger = LogManager.getLogger(GameJournal.class);
+    static final String LOG_FILE = "bowls.wal";
+    static final String SNAPSHOT_FILE = "games.snapshot";
+    private static final int LOG_MAGIC = 0x4257414C;
+    private static final int SNAPSHOT_MAGIC = 0x42534E50;
+    private static final short VERSION = 1;
+    // Magic, version, reserved and the sequence of the first record
+    private static final int LOG_HEADER_SIZE = 16;
+    // Game id and bowl
+    private static final int RECORD_SIZE = 9;
+    private static final int MAX_BOWLS = 21;
+    // Logged in place of a bowl when a game is removed
+    private static final byte REMOVED = -1;
+    // Records read at a time when replaying the log
+    private static final int RECOVERY_RECORDS = 8192;
+
+    private final Path directory;
+    private final int commitBowls;
+    // Guards the games and pending bowls, commitLock is always taken first when both are needed
+    private final Object lock = new Object();
+    private final Object commitLock = new Object();
+    private final Map<Long, Player> players = new LinkedHashMap<>();
+    // The bowls of each game as written to the log, used to take consistent snapshots
+    private final Map<Long, byte[]> games = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private FileChannel log;
+    private ByteBuffer pending;
+    private ByteBuffer committing;
+    private long sequence;
+    private int pendingBowls;
+    // Bowls in the committing batch still to be written, only non zero after a failed commit
+    private int committingBowls;
+    private boolean closed;
+
+    private GameJournal(Path directory, int commitBowls, long commitMillis, long snapshotMillis) throws IOException {
+        if (commitBowls < 1 || commitMillis < 1) {
+            throw new IllegalArgumentException("Commit bowls and milliseconds must be at least 1");
+        }
+        this.directory = directory;
+        this.commitBowls = commitBowls;
+        this.pending = ByteBuffer.allocateDirect(commitBowls * RECORD_SIZE);
+        this.committing = ByteBuffer.allocateDirect(commitBowls * RECORD_SIZE);
+        Files.createDirectories(directory);
+        recover();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scheduledCommit, commitMillis, commitMillis, TimeUnit.MILLISECONDS);
+        if (snapshotMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Opens the journal in a directory, recovering any games already journaled there
+     * @param directory the directory holding the log and snapshot, created if needed
+     * @param commitBowls the most bowls to hold before committing them
+     * @param commitMillis the most milliseconds to wait before committing bowls
+     * @param snapshotMillis how often to snapshot all the games, zero to only snapshot when {@link #snapshot()} is called
+     * @return the journal
+     * @throws IOException if the journal cannot be read or written
+     */
+    public static GameJournal open(Path directory, int commitBowls, long commitMillis, long snapshotMillis) throws IOException {
+        return new GameJournal(directory, commitBowls, commitMillis, snapshotMillis);
+    }
+
+    /**
+     * Returns the games in this journal, including those recovered when it was opened
+     * @return the Players for each game by id
+     */
+    public Map<Long, Player> getGames() {
+        synchronized (lock) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(players));
+        }
+    }
+
+    /**
+     * Starts a new journaled game
+     * @param id the id of the game
+     * @return a new Player whose bowls are journaled, adding a bowl throws if it cannot be journaled
+     * @throws IllegalStateException if a game with the id is already journaled
+     */
+    public Player newGame(long id) {
+        Player player = new Player(true);
+        synchronized (lock) {
+            if (players.putIfAbsent(id, player) != null) {
+                throw new IllegalStateException("Game %s is already journaled".formatted(id));
+            }
+            games.put(id, new byte[MAX_BOWLS + 1]);
+        }
+        player.addBowlListener(journal(id));
+        return player;
+    }
+
+    /**
+     * Stops journaling a game, such as once it is over and its result has been kept elsewhere. The game is
+     * dropped from {@link #getGames()} and the next snapshot, and its removal is logged so it is not recovered.
+     * The game's Player must not be given any more bowls, adding one throws. A new game can then use the id.
+     * @param id the id of the game
+     * @throws IllegalStateException if there is no journaled game with the id
+     */
+    public void removeGame(long id) {
+        append(id, REMOVED);
+    }
+
+    /**
+     * Adds a bowl, or the removal of a game, to the pending batch, committing the batch once it holds enough bowls.
+     * If the batch is full because another thread is already committing, waits for that commit.
+     * A failure committing a batch the bowl has been added to is logged as the bowl is kept for the
+     * next commit, but if there is no room for the bowl the failure is thrown.
+     */
+    private void append(long id, int bowl) {
+        boolean full;
+        while (true) {
+            synchronized (lock) {
+                if (closed) {
+                    throw new IllegalStateException("The journal is closed");
+                }
+                byte[] game = games.get(id);
+                if (game == null) {
+                    throw new IllegalStateException("Game %s is not journaled".formatted(id));
+                }
+                if (pending.remaining() >= RECORD_SIZE) {
+                    pending.putLong(id).put((byte) bowl);
+                    if (bowl == REMOVED) {
+                        players.remove(id);
+                        games.remove(id);
+                    } else {
+                        game[game[MAX_BOWLS]++] = (byte) bowl;
+                    }
+                    full = ++pendingBowls >= commitBowls;
+                    break;
+                }
+            }
+            commitQuietly();
+        }
+        if (full) {
+            scheduledCommit();
+        }
+    }
+
+    /**
+     * Writes any pending bowls to the log and syncs it to disk, after first writing the batch of a
+     * commit that failed. Bowls can carry on being added to the next batch while this batch is written.
+     * @throws IOException if the log cannot be written, the batch is kept to be written by the next commit
+     */
+    public void commit() throws IOException {
+        synchronized (commitLock) {
+            if (committingBowls > 0) {
+                writeBatch();
+            }
+            synchronized (lock) {
+                if (pendingBowls == 0) {
+                    return;
+                }
+                ByteBuffer batch = pending;
+                pending = committing;
+                committing = batch;
+                committingBowls = pendingBowls;
+                pendingBowls = 0;
+            }
+            committing.flip();
+            writeBatch();
+        }
+    }
+
+    /**
+     * Writes and syncs the committing batch, which is ready to be read. If the write fails the log is cut
+     * back to where the batch started and the batch is rewound so it can be written again.
+     */
+    private void writeBatch() throws IOException {
+        long start = log.position();
+        try {
+            while (committing.hasRemaining()) {
+                log.write(committing);
+            }
+            log.force(false);
+        } catch (IOException | RuntimeException exception) {
+            committing.rewind();
+            try {
+                log.truncate(start);
+                log.position(start);
+            } catch (IOException | RuntimeException suppressed) {
+                exception.addSuppressed(suppressed);
+            }
+            throw exception;
+        }
+        committing.clear();
+        sequence += committingBowls;
+        committingBowls = 0;
+    }
+
+    /**
+     * Writes a compact snapshot of every game and starts a new log. The snapshot is written to a
+     * temporary file and moved into place so a crash never leaves a partial snapshot.
+     * @throws IOException if the snapshot or log cannot be written
+     */
+    public void snapshot() throws IOException {
+        synchronized (commitLock) {
+            synchronized (lock) {
+                commit();
+                Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer buffer = ByteBuffer.allocate(20 + games.size() * (9 + MAX_BOWLS));
+                    buffer.putInt(SNAPSHOT_MAGIC).putShort(VERSION).putShort((short) 0)
+                            .putLong(sequence).putInt(games.size());
+                    for (Map.Entry<Long, byte[]> game : games.entrySet()) {
+                        byte[] bowls = game.getValue();
+                        buffer.putLong(game.getKey()).put(bowls[MAX_BOWLS]).put(bowls, 0, bowls[MAX_BOWLS]);
+                    }
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+                Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                // The snapshot holds every bowl so far, a crash before the new log is started is
+                // recovered by skipping the records already in the snapshot
+                log.close();
+                log = startLog(sequence);
+            }
+        }
+    }
+
+    /**
+     * Loads the latest snapshot and replays the log after it, then opens the log for appending
+     */
+    private void recover() throws IOException {
+        long snapshotSequence = loadSnapshot();
+        Path logFile = directory.resolve(LOG_FILE);
+        if (!Files.exists(logFile)) {
+            sequence = snapshotSequence;
+            log = startLog(sequence);
+            listenToRecovered();
+            return;
+        }
+        log = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        readFully(log, header, 0);
+        if (header.getInt(0) != LOG_MAGIC || header.getShort(4) != VERSION) {
+            throw new IOException("Not a game journal log: " + logFile);
+        }
+        long base = header.getLong(8);
+        long records = (log.size() - LOG_HEADER_SIZE) / RECORD_SIZE;
+        ByteBuffer chunk = ByteBuffer.allocate(RECOVERY_RECORDS * RECORD_SIZE);
+        long i = 0;
+        while (i < records) {
+            int count = (int) Math.min(RECOVERY_RECORDS, records - i);
+            chunk.clear().limit(count * RECORD_SIZE);
+            readFully(log, chunk, LOG_HEADER_SIZE + i * RECORD_SIZE);
+            for (int j = 0; j < count; j++, i++) {
+                long id = chunk.getLong();
+                byte bowl = chunk.get();
+                // Records already in the snapshot are skipped
+                if (base + i >= snapshotSequence) {
+                    replay(id, bowl);
+                }
+            }
+        }
+        // Remove any record that was only partly written when the process died
+        long end = LOG_HEADER_SIZE + records * RECORD_SIZE;
+        log.truncate(end);
+        log.position(end);
+        sequence = Math.max(base + records, snapshotSequence);
+        if (base + records < snapshotSequence) {
+            // The log is older than the snapshot
+            log.close();
+            log = startLog(sequence);
+        }
+        listenToRecovered();
+        logger.info("Recovered {} games from {}", players.size(), directory);
+    }
+
+    /**
+     * Returns a listener appending each accepted bowl of a game to the journal
+     */
+    private BowlListener journal(long id) {
+        return (player, event) -> {
+            if (event.isAccepted()) {
+                append(id, event.getBowl());
+            }
+        };
+    }
+
+    private void listenToRecovered() {
+        for (Map.Entry<Long, Player> game : players.entrySet()) {
+            long id = game.getKey();
+            game.getValue().addBowlListener(journal(id));
+        }
+    }
+
+    /**
+     * Loads the games in the snapshot
+     * @return the sequence the snapshot covers, zero if there is no snapshot
+     */
+    private long loadSnapshot() throws IOException {
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshotFile)) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getShort() != VERSION) {
+            throw new IOException("Not a game journal snapshot: " + snapshotFile);
+        }
+        buffer.getShort();
+        long snapshotSequence = buffer.getLong();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            long id = buffer.getLong();
+            int bowls = buffer.get();
+            for (int j = 0; j < bowls; j++) {
+                replay(id, buffer.get());
+            }
+        }
+        return snapshotSequence;
+    }
+
+    /**
+     * Adds a recovered bowl to its game, creating the game the first time it is seen, or removes the game.
+     * Recovered games are not listened to until recovery is over so the bowls are not logged again.
+     */
+    private void replay(long id, byte bowl) {
+        if (bowl == REMOVED) {
+            players.remove(id);
+            games.remove(id);
+            return;
+        }
+        Player player = players.get(id);
+        if (player == null) {
+            player = new Player(true);
+            players.put(id, player);
+            games.put(id, new byte[MAX_BOWLS + 1]);
+        }
+        if (player.addBowl(bowl)) {
+            byte[] game = games.get(id);
+            game[game[MAX_BOWLS]++] = bowl;
+        } else {
+            logger.warn("Ignoring invalid recovered bowl {} for game {}", bowl, id);
+        }
+    }
+
+    private FileChannel startLog(long base) throws IOException {
+        Path temporary = directory.resolve(LOG_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+            header.putInt(LOG_MAGIC).putShort(VERSION).putShort((short) 0).putLong(base).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        Path logFile = directory.resolve(LOG_FILE);
+        Files.move(temporary, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Replaces the log channel, used by tests to make the log fail
+     * @param wrapper given the current log and returns the channel to use in its place
+     */
+    void wrapLog(UnaryOperator<FileChannel> wrapper) {
+        synchronized (commitLock) {
+            log = wrapper.apply(log);
+        }
+    }
+
+    private void commitQuietly() {
+        try {
+            commit();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void scheduledCommit() {
+        try {
+            commit();
+        } catch (IOException exception) {
+            logger.error("Failed to commit bowls", exception);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException exception) {
+            logger.error("Failed to snapshot games", exception);
+        }
+    }
+
+    /**
+     * Commits any pending bowls and closes the log, bowls can no longer be added to the journaled games
+     * @throws IOException if the log cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        synchronized (commitLock) {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                commit();
+                closed = true;
+                log.close();
+            }
+        }
+    }
+}
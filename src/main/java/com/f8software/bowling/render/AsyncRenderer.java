@@ -0,0 +1,201 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Player;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class renders on a dedicated thread so that slow output never holds up adding bowls.
+ * Calling {@link #render(Player)} only queues the Player and returns straight away, the render thread
+ * then passes it to the delegate renderer. The delegate reads the Player's latest snapshot, so Players
+ * must be created to publish snapshots.
+ *
+ * When the render thread falls behind the latest state wins for each Player - a Player that is already
+ * waiting to be rendered is not queued again, as its queued render will show the latest snapshot. Another
+ * Player's render is never dropped, if the queue already holds capacity different Players the caller
+ * waits for the render thread to make room. Queue depth, dropped frames and render latency are recorded.
+ */
+public class AsyncRenderer implements Renderer, AutoCloseable {
+    final static Logger logger = LogManager.getLogger(AsyncRenderer.class);
+    private static final int DEFAULT_CAPACITY = 64;
+    private final Renderer delegate;
+    private final int capacity;
+    // Players waiting to be rendered with the time they were first queued
+    private final LinkedHashMap<Player, Long> pending = new LinkedHashMap<>();
+    private final Thread thread;
+    private boolean closed;
+    private int maxQueueDepth;
+    private long rendered;
+    private long dropped;
+    private long totalLatency;
+    private long maxLatency;
+
+    public AsyncRenderer(Renderer delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param delegate the renderer called on the render thread
+     * @param capacity the most Players that can wait to be rendered, this should be at least the number
+     *                 of Players being played so bowling never waits for rendering
+     */
+    public AsyncRenderer(Renderer delegate, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        thread = new Thread(this::renderLoop, "renderer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues the Player to be rendered on the render thread, waiting for room if capacity other Players
+     * are already waiting
+     * @param player The player whose scores are to be rendered, must publish snapshots
+     * @throws IllegalStateException if the renderer is closed, or the thread is interrupted while waiting
+     */
+    @Override
+    public void render(Player player) {
+        if (!player.isPublishingSnapshots()) {
+            throw new IllegalArgumentException("Only players that publish snapshots can be rendered asynchronously");
+        }
+        synchronized (pending) {
+            if (closed) {
+                throw new IllegalStateException("The renderer is closed");
+            }
+            if (pending.containsKey(player)) {
+                // The render that is already queued will show the latest snapshot
+                dropped++;
+            } else {
+                while (pending.size() == capacity) {
+                    try {
+                        pending.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted waiting to queue a render", e);
+                    }
+                    if (closed) {
+                        throw new IllegalStateException("The renderer is closed");
+                    }
+                }
+                pending.put(player, System.nanoTime());
+                maxQueueDepth = Math.max(maxQueueDepth, pending.size());
+            }
+            pending.notifyAll();
+        }
+    }
+
+    private void renderLoop() {
+        while (true) {
+            Player player;
+            long queued;
+            synchronized (pending) {
+                while (pending.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+                    try {
+                        pending.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                Iterator<Map.Entry<Player, Long>> oldest = pending.entrySet().iterator();
+                Map.Entry<Player, Long> entry = oldest.next();
+                oldest.remove();
+                player = entry.getKey();
+                queued = entry.getValue();
+                // Wake any caller waiting for room
+                pending.notifyAll();
+            }
+            try {
+                delegate.render(player);
+            } catch (RuntimeException exception) {
+                logger.error("Failed to render player", exception);
+            }
+            long latency = System.nanoTime() - queued;
+            synchronized (pending) {
+                rendered++;
+                totalLatency += latency;
+                maxLatency = Math.max(maxLatency, latency);
+                pending.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return the number of Players waiting to be rendered
+     */
+    public int getQueueDepth() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return the most Players that have been waiting to be rendered at once
+     */
+    public int getMaxQueueDepth() {
+        synchronized (pending) {
+            return maxQueueDepth;
+        }
+    }
+
+    /**
+     * @return the number of renders completed
+     */
+    public long getRenderedFrames() {
+        synchronized (pending) {
+            return rendered;
+        }
+    }
+
+    /**
+     * @return the number of renders skipped because the same Player was already waiting to be rendered
+     */
+    public long getDroppedFrames() {
+        synchronized (pending) {
+            return dropped;
+        }
+    }
+
+    /**
+     * @return the average time in nanoseconds from a Player being queued to its render completing
+     */
+    public long getAverageLatencyNanos() {
+        synchronized (pending) {
+            return rendered == 0 ? 0 : totalLatency / rendered;
+        }
+    }
+
+    /**
+     * @return the longest time in nanoseconds from a Player being queued to its render completing
+     */
+    public long getMaxLatencyNanos() {
+        synchronized (pending) {
+            return maxLatency;
+        }
+    }
+
+    /**
+     * Renders any Players still waiting and stops the render thread
+     */
+    @Override
+    public void close() {
+        synchronized (pending) {
+            closed = true;
+            pending.notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
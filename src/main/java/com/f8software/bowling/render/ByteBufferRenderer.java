@@ -0,0 +1,83 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * This class renders the same scorecard as {@link StandardOutRenderer} without creating any garbage.
+ * The scorecard is written as ASCII bytes into a single reusable buffer, taking the header rows, score
+ * cells and bowl cells from tables of bytes, and then written to the channel in one write.
+ */
+public class ByteBufferRenderer implements Renderer {
+    private static final byte NEW_LINE = '\n';
+    private static final byte[] HORIZONTAL_LINE = ascii(Cells.HORIZONTAL_LINE);
+    private static final byte[] HEADER_ROW = ascii(Cells.HEADER_ROW);
+    private static final byte[] BOWLS_ROW_START = ascii(Cells.BOWLS_ROW_START);
+    private static final byte[] SCORE_ROW_START = ascii(Cells.SCORE_ROW_START);
+    private static final int BUFFER_SIZE = 1024;
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Renders to standard out
+     */
+    public ByteBufferRenderer() {
+        this(new FileOutputStream(FileDescriptor.out).getChannel());
+    }
+
+    /**
+     * @param channel the channel to write the scorecards to
+     */
+    public ByteBufferRenderer(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * This method is responsible for rendering the player scores to the channel.
+     * Output will be:
+     * - Frame Headers row : displays the frame number
+     * - Bowls Row : displays the results of each bowl
+     * - Score Row : displays the running score for each frame
+     * @param player The player whose scores are to be rendered
+     */
+    @Override
+    public void render(Player player) {
+        // Avoid creating a snapshot view when the live Frames can be read
+        List<Frame> frames = player.isPublishingSnapshots() ? player.getSnapshot().getFrames() : player.getFrames();
+        buffer.clear();
+        buffer.put(HORIZONTAL_LINE).put(NEW_LINE);
+        buffer.put(HEADER_ROW).put(NEW_LINE);
+        buffer.put(BOWLS_ROW_START);
+        for (int i = 0; i < frames.size(); i++) {
+            buffer.put(Cells.bowlCellBytes(frames.get(i)));
+        }
+        buffer.put(NEW_LINE);
+        buffer.put(SCORE_ROW_START);
+        for (int i = 0; i < frames.size(); i++) {
+            buffer.put(Cells.scoreCellBytes(frames.get(i).getScore()));
+        }
+        buffer.put(NEW_LINE);
+        buffer.put(HORIZONTAL_LINE).put(NEW_LINE);
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
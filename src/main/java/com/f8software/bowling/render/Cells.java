@@ -0,0 +1,177 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Frame;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the cells of a scorecard in the same layout as {@link StandardOutRenderer} without
+ * formatting strings. The header row and score cells are built once up front and the bowl
+ * cells are appended from a table of symbols.
+ */
+final class Cells {
+    static final int MAX_FRAMES = 10;
+    static final int MAX_PINS = 10;
+    static final int MAX_SCORE = 300;
+    static final int ROW_START_WIDTH = 9;
+    static final int CELL_WIDTH = 7;
+    // The last frame can have a third bowl so is one character wider
+    static final int LAST_CELL_WIDTH = 8;
+    static final String FRAME_ROW_START = "Frame  : ";
+    static final String BOWLS_ROW_START = "Bowls  : ";
+    static final String SCORE_ROW_START = "Score  : ";
+    static final String HORIZONTAL_LINE = "-".repeat(80);
+    static final String HEADER_ROW = headerRow();
+    private static final String[] SCORE_CELLS = scoreCells();
+    private static final char[] SYMBOLS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'X'};
+    private static final int BOWL_VALUES = MAX_PINS + 1;
+    // Indexed by whether it is the last frame, the number of bowls and the bowls
+    private static final byte[][] BOWL_CELL_BYTES = bowlCellBytes();
+    private static final byte[][] SCORE_CELL_BYTES = scoreCellBytes();
+
+    private Cells() {
+    }
+
+    /**
+     * Returns the score cell for a Frame, for example "    42 "
+     */
+    static String scoreCell(int score) {
+        return score >= 0 && score <= MAX_SCORE ? SCORE_CELLS[score] : "   " + score + " ";
+    }
+
+    /**
+     * Appends the bowls cell for a Frame, matching {@link StandardOutRenderer#renderBowls(StringBuilder, Frame)}
+     * @return the number of characters appended
+     */
+    static int appendBowls(StringBuilder builder, Frame frame) {
+        int start = builder.length();
+        switch (frame.getScoreType()) {
+            case STRIKE -> {
+                if (frame.isLastFrame()) {
+                    appendLastFrameStrike(builder, frame);
+                } else {
+                    builder.append("   X - ");
+                }
+            }
+            case SPARE -> {
+                builder.append("   ").append(symbol(frame.getFirstBowlScore())).append(" /");
+                if (frame.isLastFrame() && frame.getStatus() == Frame.FrameState.COMPLETE) {
+                    builder.append(' ').append(symbol(frame.getThirdBowlScore()));
+                } else {
+                    builder.append(' ');
+                }
+            }
+            case NORMAL -> {
+                builder.append("  ");
+                for (int i = 0; i < frame.getBowlCount(); i++) {
+                    builder.append(' ').append(SYMBOLS[frame.getBowl(i)]);
+                }
+                builder.append(' ');
+            }
+        }
+        return builder.length() - start;
+    }
+
+    private static void appendLastFrameStrike(StringBuilder builder, Frame frame) {
+        builder.append("   X ");
+        switch (frame.getStatus()) {
+            case COMPLETE -> {
+                int second = frame.getSecondBowlScore();
+                int third = frame.getThirdBowlScore();
+                builder.append(symbol(second)).append(' ');
+                if (second + third == MAX_PINS && second != MAX_PINS) {
+                    builder.append('/');
+                } else {
+                    builder.append(symbol(third));
+                }
+            }
+            case TWO_BOWLED -> builder.append(symbol(frame.getSecondBowlScore())).append(' ');
+            default -> builder.append(' ');
+        }
+    }
+
+    /**
+     * Returns the symbol for a bowl, X for a strike otherwise the number of pins
+     */
+    static char symbol(int bowl) {
+        return SYMBOLS[bowl];
+    }
+
+    /**
+     * Returns the ASCII bytes of the bowls cell for a Frame. There are only a few thousand possible
+     * cells so they are all built when the class is loaded and shared by every renderer.
+     */
+    static byte[] bowlCellBytes(Frame frame) {
+        return BOWL_CELL_BYTES[bowlCellKey(frame)];
+    }
+
+    private static int bowlCellKey(Frame frame) {
+        return (((frame.isLastFrame() ? 4 : 0) + frame.getBowlCount()) * BOWL_VALUES + frame.getBowl(0))
+                * BOWL_VALUES * BOWL_VALUES + frame.getBowl(1) * BOWL_VALUES + frame.getBowl(2);
+    }
+
+    /**
+     * Builds the bowls cell of every Frame that can be bowled
+     */
+    private static byte[][] bowlCellBytes() {
+        byte[][] cells = new byte[2 * 4 * BOWL_VALUES * BOWL_VALUES * BOWL_VALUES][];
+        for (int bowls = 0; bowls < BOWL_VALUES * BOWL_VALUES * BOWL_VALUES; bowls++) {
+            for (boolean lastFrame : new boolean[]{false, true}) {
+                Frame frame = new Frame();
+                frame.setLastFrame(lastFrame);
+                addBowlCell(cells, frame);
+                // Bowl the first, second and third digits of the number in base 11
+                for (int divisor = BOWL_VALUES * BOWL_VALUES; divisor > 0 && frame.getStatus() != Frame.FrameState.COMPLETE; divisor /= BOWL_VALUES) {
+                    int bowl = bowls / divisor % BOWL_VALUES;
+                    if (frame.getRejectReason(bowl) != null) {
+                        break;
+                    }
+                    frame.addBowl(bowl);
+                    addBowlCell(cells, frame);
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static void addBowlCell(byte[][] cells, Frame frame) {
+        int key = bowlCellKey(frame);
+        if (cells[key] == null) {
+            StringBuilder builder = new StringBuilder(LAST_CELL_WIDTH);
+            appendBowls(builder, frame);
+            cells[key] = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Returns the ASCII bytes of the score cell for a Frame
+     */
+    static byte[] scoreCellBytes(int score) {
+        return score >= 0 && score <= MAX_SCORE ? SCORE_CELL_BYTES[score]
+                : scoreCell(score).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String headerRow() {
+        StringBuilder builder = new StringBuilder(FRAME_ROW_START);
+        for (int frameNum = 1; frameNum <= MAX_FRAMES; frameNum++) {
+            builder.append("   -").append(frameNum).append("- ");
+        }
+        return builder.toString();
+    }
+
+    private static byte[][] scoreCellBytes() {
+        byte[][] cells = new byte[MAX_SCORE + 1][];
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            cells[score] = SCORE_CELLS[score].getBytes(StandardCharsets.US_ASCII);
+        }
+        return cells;
+    }
+
+    private static String[] scoreCells() {
+        String[] cells = new String[MAX_SCORE + 1];
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            cells[score] = "   %3s ".formatted(score);
+        }
+        return cells;
+    }
+}
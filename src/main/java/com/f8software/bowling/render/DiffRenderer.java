@@ -0,0 +1,166 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.ScoreSnapshot;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * This class renders scorecards to an ANSI terminal, redrawing only the cells that have changed.
+ * The first time a Player is rendered its whole scorecard is drawn, below the scorecards of any
+ * Players rendered before it. After that the bowls and score of each Frame are remembered and only
+ * the cells that differ are redrawn, using ANSI escape codes to move the cursor to each cell.
+ * The layout matches {@link StandardOutRenderer}.
+ *
+ * Players are remembered until {@link #remove(Player)} is called, which clears the scorecard and
+ * frees its rows for the next new Player.
+ *
+ * Renders and removals are synchronized, so one DiffRenderer can be shared by Players bowling on
+ * different threads, such as the Lanes of a LaneManager.
+ */
+public class DiffRenderer implements Renderer {
+    private static final String ESCAPE = "\u001b[";
+    private static final int CARD_HEIGHT = 5;
+    private static final int BOWLS_ROW = 2;
+    private static final int SCORE_ROW = 3;
+    private final PrintStream out;
+    private final int top;
+    private final Map<Player, Card> cards = new IdentityHashMap<>();
+    // Rows of removed scorecards, reused from the top down
+    private final PriorityQueue<Integer> freeRows = new PriorityQueue<>();
+    private final StringBuilder builder = new StringBuilder(512);
+    private int nextRow;
+
+    /**
+     * Renders to standard out, clearing the screen and drawing the first scorecard at the top
+     */
+    public DiffRenderer() {
+        this(System.out, 1);
+        out.print(ESCAPE + "2J");
+    }
+
+    /**
+     * @param out the stream to write to
+     * @param top the terminal row to draw the first scorecard on, starting at 1
+     */
+    public DiffRenderer(PrintStream out, int top) {
+        this.out = out;
+        this.top = top;
+        this.nextRow = top;
+    }
+
+    /**
+     * Redraws the cells of the Player's scorecard that have changed since it was last rendered
+     * @param player The player whose scores are to be rendered
+     */
+    @Override
+    public synchronized void render(Player player) {
+        ScoreSnapshot snapshot = player.getSnapshot();
+        Card card = cards.get(player);
+        builder.setLength(0);
+        if (card == null) {
+            card = new Card(freeRows.isEmpty() ? nextCardRow() : freeRows.poll());
+            cards.put(player, card);
+            drawCard(card);
+        } else if (card.version == snapshot.getVersion()) {
+            return;
+        }
+        card.version = snapshot.getVersion();
+        List<Frame> frames = snapshot.getFrames();
+        for (int i = 0; i < frames.size(); i++) {
+            Frame frame = frames.get(i);
+            int column = Cells.ROW_START_WIDTH + i * Cells.CELL_WIDTH + 1;
+            if (card.bowlCounts[i] != frame.getBowlCount()) {
+                card.bowlCounts[i] = frame.getBowlCount();
+                moveTo(card.row + BOWLS_ROW, column);
+                int width = Cells.appendBowls(builder, frame);
+                pad(width, frame.isLastFrame() ? Cells.LAST_CELL_WIDTH : Cells.CELL_WIDTH);
+            }
+            if (card.scores[i] != frame.getScore()) {
+                card.scores[i] = frame.getScore();
+                moveTo(card.row + SCORE_ROW, column);
+                builder.append(Cells.scoreCell(frame.getScore()));
+            }
+        }
+        // Leave the cursor below the last scorecard
+        moveTo(nextRow, 1);
+        out.print(builder);
+        out.flush();
+    }
+
+    /**
+     * Stops rendering a Player, such as once its game is over, clearing its scorecard so the
+     * rows can be used by the next new Player
+     * @param player the Player to forget
+     */
+    public synchronized void remove(Player player) {
+        Card card = cards.remove(player);
+        if (card == null) {
+            return;
+        }
+        builder.setLength(0);
+        for (int row = card.row; row < card.row + CARD_HEIGHT; row++) {
+            moveTo(row, 1);
+            builder.append(ESCAPE).append("2K");
+        }
+        moveTo(nextRow, 1);
+        out.print(builder);
+        out.flush();
+        freeRows.add(card.row);
+    }
+
+    private int nextCardRow() {
+        int row = nextRow;
+        nextRow += CARD_HEIGHT;
+        return row;
+    }
+
+    /**
+     * Draws the parts of a scorecard that never change
+     */
+    private void drawCard(Card card) {
+        moveTo(card.row, 1);
+        builder.append(Cells.HORIZONTAL_LINE);
+        moveTo(card.row + 1, 1);
+        builder.append(Cells.HEADER_ROW);
+        moveTo(card.row + BOWLS_ROW, 1);
+        builder.append(Cells.BOWLS_ROW_START);
+        moveTo(card.row + SCORE_ROW, 1);
+        builder.append(Cells.SCORE_ROW_START);
+        moveTo(card.row + 4, 1);
+        builder.append(Cells.HORIZONTAL_LINE);
+    }
+
+    private void moveTo(int row, int column) {
+        builder.append(ESCAPE).append(row).append(';').append(column).append('H');
+    }
+
+    private void pad(int width, int cellWidth) {
+        for (int i = width; i < cellWidth; i++) {
+            builder.append(' ');
+        }
+    }
+
+    /**
+     * The terminal row of a Player's scorecard and the cells last drawn on it,
+     * -1 marks a cell that has not been drawn
+     */
+    private static class Card {
+        private final int row;
+        private final int[] bowlCounts = new int[Cells.MAX_FRAMES];
+        private final int[] scores = new int[Cells.MAX_FRAMES];
+        private long version = -1;
+
+        Card(int row) {
+            this.row = row;
+            Arrays.fill(bowlCounts, -1);
+            Arrays.fill(scores, -1);
+        }
+    }
+}
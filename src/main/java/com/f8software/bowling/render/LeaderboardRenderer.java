@@ -0,0 +1,135 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class renders many games at once on a leaderboard. The Frame header row is rendered once at
+ * the top, followed by a bowls row and score row for each Player, all composed into one buffer and
+ * written to the output in one go.
+ *
+ * Players can also be marked as changed with {@link #update(Player)} and repainted with {@link #tick()}
+ * at most once per frame interval, so bursts of bowls are coalesced into a single repaint.
+ * Finished games can be taken off the leaderboard with {@link #remove(Player)}.
+ *
+ * All rendering shares one buffer, so the methods are synchronized and can be called from any thread.
+ */
+public class LeaderboardRenderer implements Renderer {
+    private static final String NAME_START = "Game ";
+    private static final int NAME_WIDTH = 8;
+    private static final String INDENT = " ".repeat(NAME_WIDTH);
+    private final PrintStream out;
+    private final long frameIntervalNanos;
+    private final StringBuilder builder = new StringBuilder(16 * 1024);
+    private final Set<Player> players = new LinkedHashSet<>();
+    private boolean changed;
+    private long lastPaint;
+
+    /**
+     * Renders to standard out with no limit on how often it repaints
+     */
+    public LeaderboardRenderer() {
+        this(System.out, 0);
+    }
+
+    /**
+     * @param out the stream to write to
+     * @param maxFramesPerSecond the most repaints per second from {@link #tick()}, zero for no limit
+     */
+    public LeaderboardRenderer(PrintStream out, int maxFramesPerSecond) {
+        this.out = out;
+        this.frameIntervalNanos = maxFramesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxFramesPerSecond : 0;
+        this.lastPaint = System.nanoTime() - frameIntervalNanos;
+    }
+
+    /**
+     * Renders every Player on the leaderboard straight away
+     * @param players the Players to render in the order they are listed
+     */
+    public synchronized void render(Collection<Player> players) {
+        builder.setLength(0);
+        builder.append(Cells.HORIZONTAL_LINE).append('\n');
+        builder.append(INDENT).append(Cells.HEADER_ROW).append('\n');
+        int number = 1;
+        for (Player player : players) {
+            appendPlayer(player, number++);
+        }
+        builder.append(Cells.HORIZONTAL_LINE).append('\n');
+        out.print(builder);
+        out.flush();
+    }
+
+    /**
+     * Renders a single Player as a leaderboard of one
+     * @param player The player whose scores are to be rendered
+     */
+    @Override
+    public void render(Player player) {
+        render(List.of(player));
+    }
+
+    /**
+     * Marks a Player as changed so it is shown on the next repaint, Players are added to the
+     * leaderboard the first time they are updated
+     * @param player the Player that has changed
+     */
+    public synchronized void update(Player player) {
+        players.add(player);
+        changed = true;
+    }
+
+    /**
+     * Takes a Player off the leaderboard, the next repaint shows the leaderboard without it
+     * @param player the Player to remove
+     */
+    public synchronized void remove(Player player) {
+        if (players.remove(player)) {
+            changed = true;
+        }
+    }
+
+    /**
+     * Repaints the leaderboard if any Player has changed and the frame interval has passed since
+     * the last repaint. Call this on every refresh tick.
+     * @return true if the leaderboard was repainted
+     */
+    public synchronized boolean tick() {
+        long now = System.nanoTime();
+        if (!changed || now - lastPaint < frameIntervalNanos) {
+            return false;
+        }
+        changed = false;
+        lastPaint = now;
+        render(players);
+        return true;
+    }
+
+    /**
+     * Appends the bowls and score rows of a Player, the Frame header is only rendered once
+     */
+    private void appendPlayer(Player player, int number) {
+        List<Frame> frames = player.getSnapshot().getFrames();
+        int start = builder.length();
+        builder.append(NAME_START).append(number);
+        while (builder.length() - start < NAME_WIDTH) {
+            builder.append(' ');
+        }
+        builder.append(Cells.BOWLS_ROW_START);
+        for (Frame frame : frames) {
+            Cells.appendBowls(builder, frame);
+        }
+        builder.append('\n');
+        builder.append(INDENT).append(Cells.SCORE_ROW_START);
+        for (Frame frame : frames) {
+            builder.append(Cells.scoreCell(frame.getScore()));
+        }
+        builder.append('\n');
+    }
+}
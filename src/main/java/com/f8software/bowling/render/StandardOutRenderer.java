@@ -2,6 +2,7 @@ package com.f8software.bowling.render;
 
 import com.f8software.bowling.model.Frame;
 import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.ScoreSnapshot;
 
 import java.util.List;
 
@@ -15,6 +16,7 @@ public class StandardOutRenderer implements Renderer {
     private static final String FRAME_ROW_START = "Frame  : ";
     private static final String BOWLS_ROW_START = "Bowls  : ";
     private static final String SCORE_ROW_START = "Score  : ";
+    private static final String RANGE_ROW = "Range  :    %s to %s\n";
     private static final String FRAME_HEADER = "   -%s- ";
     private static final String SCORE_TEMPLATE = "   %3s ";
     private static final String STRIKE_TEMPLATE = "   X - ";
@@ -28,8 +30,21 @@ public class StandardOutRenderer implements Renderer {
     private static final String BOWL_END= " ";
     private static final String BLANK = "";
     private static final String HORIZONTAL_LINE = "-".repeat(80);
+    private final boolean showProjection;
     private StringBuilder builder;
 
+    public StandardOutRenderer() {
+        this(false);
+    }
+
+    /**
+     * @param showProjection true to add a row showing the lowest and highest final score
+     *                       the game can still finish with
+     */
+    public StandardOutRenderer(boolean showProjection) {
+        this.showProjection = showProjection;
+    }
+
     /**
      * This method is responsible for rendering the player scores to the
      * standard output.
@@ -37,18 +52,24 @@ public class StandardOutRenderer implements Renderer {
      * - Frame Headers row : displays the frame number
      * - Bowls Row : displays the results of each bowl
      * - Score Row : displays the running score for each frame
+     * - Range Row : optionally displays the lowest and highest possible final score
      * @param player The player whose scores are to be rendered
      */
     @Override
     public void render(Player player) {
         builder = new StringBuilder();
-        List<Frame> frames = player.getFrames();
+        // The snapshot is safe to render from any thread when the player publishes snapshots
+        ScoreSnapshot snapshot = player.getSnapshot();
+        List<Frame> frames = snapshot.getFrames();
 
         System.out.println(HORIZONTAL_LINE);
 
         renderFrameHeaderRow(builder);
         renderBowlsRow(builder, frames);
         renderScoreRow(builder, frames);
+        if (showProjection) {
+            builder.append(RANGE_ROW.formatted(snapshot.getMinPossibleScore(), snapshot.getMaxPossibleScore()));
+        }
 
         System.out.print(builder);
 
@@ -114,10 +135,9 @@ public class StandardOutRenderer implements Renderer {
                 }
             }
             case NORMAL -> {
-                List<Integer> bowls = frame.getBowls();
                 builder.append(BOWL_START);
-                for (Integer bowl : bowls) {
-                    builder.append(BOWL_TEMPLATE.formatted(bowl));
+                for (int i = 0; i < frame.getBowlCount(); i++) {
+                    builder.append(BOWL_TEMPLATE.formatted(frame.getBowl(i)));
                 }
                 builder.append(BOWL_END);
             }
@@ -0,0 +1,8 @@
+package com.f8software.bowling.replay;
+
+/**
+ * This is a simple functional interface to receive the bowls replayed from a roll log
+ */
+public interface RollConsumer {
+    void accept(int lane, int game, int bowl);
+}
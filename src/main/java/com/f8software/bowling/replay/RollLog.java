@@ -0,0 +1,28 @@
+package com.f8software.bowling.replay;
+
+/**
+ * Describes the compact binary format of a roll log, used to archive every bowl from every lane.
+ *
+ * The file starts with a header of the {@link #MAGIC} number followed by the {@link #VERSION}
+ * and a reserved short. The rest of the file is a sequence of records, each holding bowls for a
+ * single game:
+ * <pre>
+ *   lane   : unsigned short
+ *   game   : int
+ *   count  : unsigned byte, 1 to 255
+ *   bowls  : count bytes, one per bowl
+ * </pre>
+ * Records for different games may be interleaved, and a game may be split across many records.
+ * All values are big endian.
+ */
+public final class RollLog {
+    public static final int MAGIC = 0x424F574C;
+    public static final short VERSION = 1;
+    public static final int FILE_HEADER_SIZE = 8;
+    public static final int RECORD_HEADER_SIZE = 7;
+    public static final int MAX_RECORD_BOWLS = 255;
+    public static final int MAX_LANE = 0xFFFF;
+
+    private RollLog() {
+    }
+}
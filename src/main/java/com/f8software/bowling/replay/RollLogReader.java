@@ -0,0 +1,89 @@
+package com.f8software.bowling.replay;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replays a roll log written in the format described by {@link RollLog}.
+ * The file is memory mapped a region at a time and the bowls are read straight from the
+ * mapped memory and passed to a {@link RollConsumer}, so nothing is copied onto the heap.
+ */
+public class RollLogReader {
+    // A single mapping is limited to 2GB so large logs are mapped a region at a time
+    private static final long DEFAULT_REGION_SIZE = 1L << 30;
+    private final long regionSize;
+
+    public RollLogReader() {
+        this(DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * @param regionSize the most bytes of the file to map at a time, must hold at least one record
+     */
+    RollLogReader(long regionSize) {
+        if (regionSize < RollLog.RECORD_HEADER_SIZE + RollLog.MAX_RECORD_BOWLS) {
+            throw new IllegalArgumentException("Region size is too small to hold a record");
+        }
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Replays every bowl in the log in the order they were written
+     * @param path the roll log to replay
+     * @param consumer receives each bowl with its lane and game
+     * @return the number of bowls replayed
+     * @throws IOException if the log cannot be read or is not a roll log
+     */
+    public long replay(Path path, RollConsumer consumer) throws IOException {
+        long bowls = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            checkHeader(channel, size);
+            long position = RollLog.FILE_HEADER_SIZE;
+            while (position < size) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(regionSize, size - position));
+                int consumed = 0;
+                // Read each record that fits completely in this region, the next region starts at the first that doesn't
+                while (region.remaining() >= RollLog.RECORD_HEADER_SIZE) {
+                    int start = region.position();
+                    int lane = Short.toUnsignedInt(region.getShort(start));
+                    int game = region.getInt(start + 2);
+                    int count = Byte.toUnsignedInt(region.get(start + 6));
+                    if (region.remaining() < RollLog.RECORD_HEADER_SIZE + count) {
+                        break;
+                    }
+                    int first = start + RollLog.RECORD_HEADER_SIZE;
+                    for (int i = first; i < first + count; i++) {
+                        consumer.accept(lane, game, region.get(i));
+                    }
+                    bowls += count;
+                    consumed = first + count;
+                    region.position(consumed);
+                }
+                if (consumed == 0) {
+                    throw new IOException("Truncated record at position %s".formatted(position));
+                }
+                position += consumed;
+            }
+        }
+        return bowls;
+    }
+
+    private void checkHeader(FileChannel channel, long size) throws IOException {
+        if (size < RollLog.FILE_HEADER_SIZE) {
+            throw new IOException("Not a roll log, the file is too small");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, RollLog.FILE_HEADER_SIZE);
+        if (header.getInt() != RollLog.MAGIC) {
+            throw new IOException("Not a roll log");
+        }
+        short version = header.getShort();
+        if (version != RollLog.VERSION) {
+            throw new IOException("Unsupported roll log version %s".formatted(version));
+        }
+    }
+}
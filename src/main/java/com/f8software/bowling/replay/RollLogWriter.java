@@ -0,0 +1,95 @@
+package com.f8software.bowling.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes bowls to a roll log in the format described by {@link RollLog}.
+ * Records are collected in a buffer and written when it is full or the writer is closed.
+ */
+public class RollLogWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Creates a new roll log, replacing any existing file
+     * @param path the file to write to
+     * @throws IOException if the file cannot be created
+     */
+    public RollLogWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(RollLog.MAGIC).putShort(RollLog.VERSION).putShort((short) 0);
+    }
+
+    /**
+     * Writes a single bowl for a game
+     * @param lane the lane the game is played on, 0 to {@link RollLog#MAX_LANE}
+     * @param game the id of the game
+     * @param bowl the number of pins knocked down
+     * @throws IOException if the log cannot be written
+     */
+    public void write(int lane, int game, int bowl) throws IOException {
+        ensureRoom(RollLog.RECORD_HEADER_SIZE + 1);
+        putHeader(lane, game, 1);
+        buffer.put((byte) bowl);
+    }
+
+    /**
+     * Writes bowls for a game, split into as many records as needed
+     * @param lane the lane the game is played on, 0 to {@link RollLog#MAX_LANE}
+     * @param game the id of the game
+     * @param bowls the array holding the bowls
+     * @param from the index of the first bowl to write
+     * @param to the index after the last bowl to write
+     * @throws IOException if the log cannot be written
+     */
+    public void write(int lane, int game, int[] bowls, int from, int to) throws IOException {
+        for (int start = from; start < to; start += RollLog.MAX_RECORD_BOWLS) {
+            int count = Math.min(to - start, RollLog.MAX_RECORD_BOWLS);
+            ensureRoom(RollLog.RECORD_HEADER_SIZE + count);
+            putHeader(lane, game, count);
+            for (int i = start; i < start + count; i++) {
+                buffer.put((byte) bowls[i]);
+            }
+        }
+    }
+
+    private void putHeader(int lane, int game, int count) {
+        if (lane < 0 || lane > RollLog.MAX_LANE) {
+            throw new IllegalArgumentException("Lane %s is outside the range of the log".formatted(lane));
+        }
+        buffer.putShort((short) lane).putInt(game).put((byte) count);
+    }
+
+    private void ensureRoom(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes any buffered records to the file
+     * @throws IOException if the log cannot be written
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
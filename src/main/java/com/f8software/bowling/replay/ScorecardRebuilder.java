@@ -0,0 +1,67 @@
+package com.f8software.bowling.replay;
+
+import com.f8software.bowling.model.GameStore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rebuilds the scorecards of every game in a roll log into a {@link GameStore}.
+ * Each lane and game in the log is given its own game in the store the first time it is seen.
+ */
+public class ScorecardRebuilder implements RollConsumer {
+    private final GameStore store;
+    private final Map<Long, Integer> games = new HashMap<>();
+    // Bowls for a game are usually together in the log so the last game looked up is remembered
+    private long lastKey = -1;
+    private int lastGame;
+    private long rejected;
+
+    public ScorecardRebuilder() {
+        this(new GameStore());
+    }
+
+    public ScorecardRebuilder(GameStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void accept(int lane, int game, int bowl) {
+        long key = key(lane, game);
+        if (key != lastKey) {
+            lastGame = games.computeIfAbsent(key, k -> store.newGame());
+            lastKey = key;
+        }
+        if (!store.addBowl(lastGame, bowl)) {
+            rejected++;
+        }
+    }
+
+    /**
+     * @return the store holding the rebuilt games
+     */
+    public GameStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the index in the store of a game from the log
+     * @param lane the lane the game was played on
+     * @param game the id of the game
+     * @return the index of the game in the store, or -1 if it was not in the log
+     */
+    public int getGame(int lane, int game) {
+        return games.getOrDefault(key(lane, game), -1);
+    }
+
+    /**
+     * @return the number of bowls in the log that were invalid for their game
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    private static long key(int lane, int game) {
+        return (long) lane << 32 | Integer.toUnsignedLong(game);
+    }
+}
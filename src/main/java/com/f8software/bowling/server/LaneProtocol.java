@@ -0,0 +1,76 @@
+package com.f8software.bowling.server;
+
+import com.f8software.bowling.model.Frame;
+
+/**
+ * Describes the compact binary protocol used by pinsetter controllers to send bowls to the
+ * {@link LaneServer} over TCP.
+ *
+ * The controller sends a stream of bowl records, and may send as many as it likes before
+ * waiting for acks:
+ * <pre>
+ *   lane   : unsigned short
+ *   player : unsigned byte, 0 to {@link #MAX_PLAYERS} - 1
+ *   pins   : unsigned byte, or {@link #NEW_GAME}
+ * </pre>
+ * A record with pins of {@link #NEW_GAME} starts a new game for the player, replacing the game before,
+ * and is acked like a bowl. Controllers send it before the first bowl of each game after the first.
+ * The bowls on a connection are numbered from zero in the order they are sent. The server
+ * acks them in batches, each ack covering the bowls that arrived together:
+ * <pre>
+ *   first   : int, the number of the first bowl in the batch
+ *   count   : unsigned short
+ *   results : count bytes, {@link #ACCEPTED} or the reason the bowl was rejected
+ * </pre>
+ * The rejection results are fixed - {@link #REJECTED_NEGATIVE_PINS}, {@link #REJECTED_TOO_MANY_PINS},
+ * {@link #REJECTED_FRAME_COMPLETE} and {@link #REJECTED_GAME_COMPLETE}.
+ * A bowl for a player or lane the server does not serve is acked with {@link #UNKNOWN_PLAYER}.
+ * All values are big endian.
+ */
+public final class LaneProtocol {
+    public static final int BOWL_SIZE = 4;
+    public static final int ACK_HEADER_SIZE = 6;
+    public static final int MAX_PLAYERS = 8;
+    public static final byte ACCEPTED = 0;
+    public static final byte REJECTED_NEGATIVE_PINS = 1;
+    public static final byte REJECTED_TOO_MANY_PINS = 2;
+    public static final byte REJECTED_FRAME_COMPLETE = 3;
+    public static final byte REJECTED_GAME_COMPLETE = 4;
+    public static final byte UNKNOWN_PLAYER = (byte) 0xFF;
+    public static final int NEW_GAME = 0xFF;
+
+    private LaneProtocol() {
+    }
+
+    /**
+     * Returns the result sent for a bowl
+     * @param reason the reason the bowl was rejected, or null if it was accepted
+     * @return the result byte
+     */
+    public static byte result(Frame.RejectReason reason) {
+        if (reason == null) {
+            return ACCEPTED;
+        }
+        return switch (reason) {
+            case NEGATIVE_PINS -> REJECTED_NEGATIVE_PINS;
+            case TOO_MANY_PINS -> REJECTED_TOO_MANY_PINS;
+            case FRAME_COMPLETE -> REJECTED_FRAME_COMPLETE;
+            case GAME_COMPLETE -> REJECTED_GAME_COMPLETE;
+        };
+    }
+
+    /**
+     * Returns the reason a bowl was rejected from its result
+     * @param result the result byte from an ack
+     * @return the reason the bowl was rejected, or null if it was accepted or the player is unknown
+     */
+    public static Frame.RejectReason reason(byte result) {
+        return switch (result) {
+            case REJECTED_NEGATIVE_PINS -> Frame.RejectReason.NEGATIVE_PINS;
+            case REJECTED_TOO_MANY_PINS -> Frame.RejectReason.TOO_MANY_PINS;
+            case REJECTED_FRAME_COMPLETE -> Frame.RejectReason.FRAME_COMPLETE;
+            case REJECTED_GAME_COMPLETE -> Frame.RejectReason.GAME_COMPLETE;
+            default -> null;
+        };
+    }
+}
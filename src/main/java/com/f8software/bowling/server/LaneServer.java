@@ -0,0 +1,221 @@
+package com.f8software.bowling.server;
+
+import com.f8software.bowling.model.Player;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The LaneServer receives bowls from pinsetter controllers using the binary {@link LaneProtocol}.
+ * A single thread serves every connection with a NIO {@link Selector}, so it is the only thread
+ * adding bowls to the Players. The Players publish snapshots so they can be read from other threads.
+ *
+ * A controller can pipeline many bowls before reading any acks. Everything read from a connection
+ * in one go is processed and acked together. If a controller stops reading its acks the server stops
+ * reading its bowls until the acks have been sent.
+ *
+ * Lanes are numbered from zero up to the number of lanes the server is created with, bowls for any
+ * other lane are acked as unknown. Each player on a lane has one game at a time, which is replaced when
+ * the controller sends a {@link LaneProtocol#NEW_GAME} record.
+ */
+public class LaneServer implements AutoCloseable {
+    final static Logger logger = LogManager.getLogger(LaneServer.class);
+    public static final int DEFAULT_LANES = 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_ACK_SIZE = LaneProtocol.ACK_HEADER_SIZE + BUFFER_SIZE / LaneProtocol.BOWL_SIZE;
+
+    // Keyed by lane * MAX_PLAYERS + player
+    private final Map<Integer, Player> players = new ConcurrentHashMap<>();
+    private final int lanes;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts a server for {@link #DEFAULT_LANES} lanes
+     * @param port the port to listen on, 0 picks a free port
+     * @throws IOException if the server cannot listen on the port
+     */
+    public LaneServer(int port) throws IOException {
+        this(port, DEFAULT_LANES);
+    }
+
+    /**
+     * Creates and starts a server
+     * @param port the port to listen on, 0 picks a free port
+     * @param lanes the number of lanes served, numbered from zero
+     * @throws IOException if the server cannot listen on the port
+     */
+    public LaneServer(int port, int lanes) throws IOException {
+        if (lanes < 1 || lanes > 0x10000) {
+            throw new IllegalArgumentException("Lanes %s must be between 1 and 65536".formatted(lanes));
+        }
+        this.lanes = lanes;
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        thread = new Thread(this::run, "lane-server");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Lane server listening on port {}", getPort());
+    }
+
+    /**
+     * Returns the port the server is listening on
+     * @return the port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the current game of a player on a lane, players are added when their first bowl arrives
+     * @param lane the lane id
+     * @param player the player id on the lane
+     * @return the Player or null if no bowls have been received for it
+     */
+    public Player getPlayer(int lane, int player) {
+        return isKnown(lane, player) ? players.get(lane * LaneProtocol.MAX_PLAYERS + player) : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            serve(key);
+                        }
+                    } catch (IOException e) {
+                        logger.warn("Closing connection {}", key.channel(), e);
+                        key.cancel();
+                        key.channel().close();
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.error("Lane server stopped", e);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.register(selector, SelectionKey.OP_READ, new Connection());
+        }
+    }
+
+    /**
+     * Reads and acks the bowls waiting on a connection and sends any acks still to be sent
+     */
+    private void serve(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        if (key.isReadable()) {
+            if (channel.read(connection.in) < 0) {
+                key.cancel();
+                channel.close();
+                return;
+            }
+            processBowls(connection);
+        }
+        connection.out.flip();
+        channel.write(connection.out);
+        connection.out.compact();
+        // Stop reading bowls while there is no room left for their acks
+        boolean pending = connection.out.position() > 0;
+        boolean room = connection.out.remaining() >= MAX_ACK_SIZE;
+        key.interestOps((room ? SelectionKey.OP_READ : 0) | (pending ? SelectionKey.OP_WRITE : 0));
+    }
+
+    /**
+     * Adds every complete bowl record read so far and writes a single ack for them,
+     * a partial record is kept until the rest of it arrives
+     */
+    private void processBowls(Connection connection) {
+        ByteBuffer in = connection.in;
+        ByteBuffer out = connection.out;
+        in.flip();
+        int count = in.remaining() / LaneProtocol.BOWL_SIZE;
+        if (count > 0) {
+            out.putInt((int) connection.sequence);
+            out.putShort((short) count);
+            for (int i = 0; i < count; i++) {
+                int lane = in.getShort() & 0xFFFF;
+                int player = in.get() & 0xFF;
+                int pins = in.get() & 0xFF;
+                out.put(bowl(lane, player, pins));
+            }
+            connection.sequence += count;
+        }
+        in.compact();
+    }
+
+    private byte bowl(int lane, int playerId, int pins) {
+        if (!isKnown(lane, playerId)) {
+            return LaneProtocol.UNKNOWN_PLAYER;
+        }
+        int key = lane * LaneProtocol.MAX_PLAYERS + playerId;
+        if (pins == LaneProtocol.NEW_GAME) {
+            players.put(key, new Player(true));
+            return LaneProtocol.ACCEPTED;
+        }
+        Player player = players.computeIfAbsent(key, id -> new Player(true));
+        // Every bowl goes through addBowl so rejections are seen in the same way as any other input
+        if (player.addBowl(pins)) {
+            return LaneProtocol.ACCEPTED;
+        }
+        return LaneProtocol.result(player.getRejectReason(pins));
+    }
+
+    private boolean isKnown(int lane, int player) {
+        return lane >= 0 && lane < lanes && player >= 0 && player < LaneProtocol.MAX_PLAYERS;
+    }
+
+    /**
+     * The buffers and bowl count of a controller's connection
+     */
+    private static class Connection {
+        private final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE + MAX_ACK_SIZE);
+        private long sequence;
+    }
+}
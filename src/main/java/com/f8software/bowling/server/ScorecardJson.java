@@ -0,0 +1,150 @@
+package com.f8software.bowling.server;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.ScoreSnapshot;
+import com.f8software.bowling.stream.ScoreUpdate;
+
+import java.util.List;
+
+/**
+ * Writes scorecards as JSON and reads the small request bodies used by the {@link ScoringServer}.
+ * The JSON is simple enough to write by hand, so no JSON library is needed.
+ */
+final class ScorecardJson {
+
+    private ScorecardJson() {
+    }
+
+    /**
+     * Writes the scorecard of a game, for example
+     * {"id":1,"complete":false,"total":30,"minPossible":30,"maxPossible":290,
+     * "frames":[{"bowls":[3,7],"score":20,"state":"COMPLETE","type":"SPARE"},...]}
+     * @param id the id of the game
+     * @param snapshot the state of the game to write
+     * @return the JSON
+     */
+    static String scorecard(long id, ScoreSnapshot snapshot) {
+        List<Frame> frames = snapshot.getFrames();
+        StringBuilder builder = new StringBuilder(64 + frames.size() * 64);
+        builder.append("{\"id\":").append(id)
+                .append(",\"complete\":").append(snapshot.isComplete())
+                .append(",\"total\":").append(snapshot.getTotalScore())
+                .append(",\"minPossible\":").append(snapshot.getMinPossibleScore())
+                .append(",\"maxPossible\":").append(snapshot.getMaxPossibleScore())
+                .append(",\"frames\":[");
+        for (int i = 0; i < frames.size(); i++) {
+            Frame frame = frames.get(i);
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"bowls\":[");
+            for (int bowl = 0; bowl < frame.getBowlCount(); bowl++) {
+                if (bowl > 0) {
+                    builder.append(',');
+                }
+                builder.append(frame.getBowl(bowl));
+            }
+            builder.append("],\"score\":").append(frame.getScore())
+                    .append(",\"state\":\"").append(frame.getStatus())
+                    .append("\",\"type\":\"").append(frame.getScoreType())
+                    .append("\"}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * Writes the change to a game after a bowl, for example
+     * {"id":1,"version":3,"frame":1,"bowl":4,"frameBowls":[4],"firstChangedFrame":0,"scores":[14,18],"complete":false}
+     * @param update the change to write
+     * @return the JSON
+     */
+    static String update(ScoreUpdate update) {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append("{\"id\":").append(update.getGame())
+                .append(",\"version\":").append(update.getVersion())
+                .append(",\"frame\":").append(update.getFrame())
+                .append(",\"bowl\":").append(update.getBowl())
+                .append(",\"frameBowls\":[");
+        for (int i = 0; i < update.getFrameBowlCount(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(update.getFrameBowl(i));
+        }
+        builder.append("],\"firstChangedFrame\":").append(update.getFirstChangedFrame())
+                .append(",\"scores\":[");
+        for (int frame = update.getFirstChangedFrame(); frame < update.getFirstChangedFrame() + update.getChangedFrameCount(); frame++) {
+            if (frame > update.getFirstChangedFrame()) {
+                builder.append(',');
+            }
+            builder.append(update.getScore(frame));
+        }
+        return builder.append("],\"complete\":").append(update.isComplete()).append('}').toString();
+    }
+
+    /**
+     * Writes the id of a new game
+     * @param id the id of the game
+     * @return the JSON
+     */
+    static String created(long id) {
+        return "{\"id\":" + id + "}";
+    }
+
+    /**
+     * Writes an error message
+     * @param message the message, which may hold user input so quotes, backslashes and control characters are escaped
+     * @return the JSON
+     */
+    static String error(String message) {
+        StringBuilder json = new StringBuilder(message.length() + 16).append("{\"error\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u%04x".formatted((int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append("\"}").toString();
+    }
+
+    /**
+     * Reads the pins knocked down from a request body such as {"pins":7}
+     * @param body the request body
+     * @return the pins knocked down
+     * @throws IllegalArgumentException if the body has no pins number
+     */
+    static int pins(String body) {
+        int key = body.indexOf("\"pins\"");
+        int colon = key < 0 ? -1 : body.indexOf(':', key);
+        if (colon < 0) {
+            throw new IllegalArgumentException("Expected a body like {\"pins\":7}");
+        }
+        int start = colon + 1;
+        while (start < body.length() && Character.isWhitespace(body.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        if (end < body.length() && body.charAt(end) == '-') {
+            end++;
+        }
+        while (end < body.length() && Character.isDigit(body.charAt(end))) {
+            end++;
+        }
+        try {
+            return Integer.parseInt(body.substring(start, end));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number of pins but got %s".formatted(body.substring(start)));
+        }
+    }
+}
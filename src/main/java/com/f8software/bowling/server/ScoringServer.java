@@ -0,0 +1,382 @@
+package com.f8software.bowling.server;
+
+import com.f8software.bowling.metrics.BowlingMetrics;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.ScoreSnapshot;
+import com.f8software.bowling.stream.ScoreFeed;
+import com.f8software.bowling.stream.ScoreUpdate;
+import com.f8software.bowling.stream.Subscription;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ScoringServer is an embedded HTTP service for scoring games of bowling, using the
+ * JDK's {@link HttpServer}. Each game is a {@link Player} that publishes snapshots, so
+ * scorecards are read without locking while bowls are added.
+ *
+ * - POST /games creates a game and returns {"id":1}, with status 503 once the maximum number of games are live
+ * - POST /games/{id}/bowls with a body such as {"pins":7} adds a bowl and returns the scorecard,
+ *   with status 422 if the bowl was rejected
+ * - GET /games/{id} returns the scorecard
+ * - DELETE /games/{id} removes the game, ending any event streams for it, and returns its last scorecard
+ * - GET /games/{id}/events streams server-sent events, the scorecard followed by an update after each bowl
+ *   until the game is complete
+ * - GET /metrics returns the {@link BowlingMetrics} of every game in the Prometheus text format
+ *
+ * Games are held until they are deleted, so clients should delete each game once they are done with it.
+ * Requests are handled on a fixed pool of threads. Bowls for the same game are added one at a time.
+ * An event stream holds on to a thread while it is open, so streams are handed to threads of their own,
+ * at most {@link #MAX_STREAMS} at once, and open displays never hold up the requests bowling their games.
+ * A stream requested when that many are open gets status 503. Games created here are published on lane 0 of the {@link ScoreFeed}.
+ *
+ * Launch with -Dsun.net.httpserver.nodelay=true, otherwise the JDK server waits on delayed acks, adding
+ * about 40ms to each request. The property applies to every HttpServer in the process and is read once,
+ * so it is not set here - {@link #main(String[])} sets it when it has not been given.
+ */
+public class ScoringServer implements AutoCloseable {
+    final static Logger logger = LogManager.getLogger(ScoringServer.class);
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_GAMES = 10_000;
+    public static final int MAX_STREAMS = 256;
+    private static final String GAMES_PATH = "/games";
+    private static final String BOWLS_PATH = "/bowls";
+    private static final String EVENTS_PATH = "/events";
+    private static final String METRICS_PATH = "/metrics";
+    private static final long KEEP_ALIVE_SECONDS = 15;
+    private static final byte[] KEEP_ALIVE = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int BACKLOG = 1024;
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final Map<Long, Player> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicInteger liveGames = new AtomicInteger();
+    private final int maxGames;
+    private final ScoreFeed feed = new ScoreFeed();
+    private final BowlingMetrics metrics = new BowlingMetrics();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ExecutorService streamExecutor;
+
+    /**
+     * Creates and starts a server using two threads per available processor
+     * @param port the port to listen on, 0 picks a free port
+     * @throws IOException if the server cannot listen on the port
+     */
+    public ScoringServer(int port) throws IOException {
+        this(port, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates and starts a server
+     * @param port the port to listen on, 0 picks a free port
+     * @param threads the number of threads handling requests
+     * @throws IOException if the server cannot listen on the port
+     */
+    public ScoringServer(int port, int threads) throws IOException {
+        this(port, threads, DEFAULT_MAX_GAMES);
+    }
+
+    /**
+     * Creates and starts a server
+     * @param port the port to listen on, 0 picks a free port
+     * @param threads the number of threads handling requests
+     * @param maxGames the most games that can be live at once
+     * @throws IOException if the server cannot listen on the port
+     */
+    public ScoringServer(int port, int threads, int maxGames) throws IOException {
+        if (maxGames < 1) {
+            throw new IllegalArgumentException("Max games %s must be at least 1".formatted(maxGames));
+        }
+        this.maxGames = maxGames;
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "scoring-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // No queue, a stream either gets a thread straight away or is turned away
+        streamExecutor = new ThreadPoolExecutor(0, MAX_STREAMS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "scoring-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        server.createContext(GAMES_PATH, this::handle);
+        server.createContext(METRICS_PATH, this::sendMetrics);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Scoring server listening on port {}", getPort());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        new ScoringServer(port);
+    }
+
+    /**
+     * Returns the port the server is listening on
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the feed publishing an update after every bowl of every game
+     * @return the feed
+     */
+    public ScoreFeed getFeed() {
+        return feed;
+    }
+
+    /**
+     * Returns the metrics collected from every game
+     * @return the metrics
+     */
+    public BowlingMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the game with the id given
+     * @param id the id of the game
+     * @return the Player or null if there is no such game
+     */
+    public Player getGame(long id) {
+        return games.get(id);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+        // Open streams are waiting for updates, so they are interrupted to end them
+        streamExecutor.shutdownNow();
+    }
+
+    /**
+     * Routes a request under /games to the create game, add bowl, scorecard or delete game endpoint
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        boolean streaming = false;
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (path.equals(GAMES_PATH) || path.equals(GAMES_PATH + "/")) {
+                if (method.equals("POST")) {
+                    createGame(exchange);
+                } else {
+                    send(exchange, 405, ScorecardJson.error("Use POST to create a game"));
+                }
+                return;
+            }
+            String rest = path.substring(GAMES_PATH.length() + 1);
+            boolean bowls = rest.endsWith(BOWLS_PATH);
+            boolean events = rest.endsWith(EVENTS_PATH);
+            String idPart = bowls || events ? rest.substring(0, rest.lastIndexOf('/')) : rest;
+            long id = parseId(idPart);
+            Player player = games.get(id);
+            if (player == null) {
+                send(exchange, 404, ScorecardJson.error("No such game %s".formatted(rest)));
+            } else if (bowls && method.equals("POST")) {
+                addBowl(exchange, id, player);
+            } else if (events && method.equals("GET")) {
+                streaming = startStream(exchange, id, player);
+            } else if (!bowls && !events && method.equals("GET")) {
+                sendScorecard(exchange, 200, id, player);
+            } else if (!bowls && !events && method.equals("DELETE")) {
+                deleteGame(exchange, id, player);
+            } else {
+                send(exchange, 405, ScorecardJson.error("%s is not supported for %s".formatted(method, path)));
+            }
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage(), e);
+        } catch (RuntimeException e) {
+            logger.error("Failed to handle {}", exchange.getRequestURI(), e);
+            sendError(exchange, 500, "Internal error", e);
+        } finally {
+            // A stream closes the exchange on its own thread once it ends
+            if (!streaming) {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * Sends an error unless the response has already started, in which case the connection is just closed
+     */
+    private void sendError(HttpExchange exchange, int status, String message, RuntimeException e) throws IOException {
+        if (exchange.getResponseCode() == -1) {
+            send(exchange, status, ScorecardJson.error(message));
+        } else {
+            logger.warn("Failed after the response to {} started", exchange.getRequestURI(), e);
+        }
+    }
+
+    private void createGame(HttpExchange exchange) throws IOException {
+        if (liveGames.incrementAndGet() > maxGames) {
+            liveGames.decrementAndGet();
+            send(exchange, 503, ScorecardJson.error("Too many games, delete a game before creating another"));
+            return;
+        }
+        long id = nextId.getAndIncrement();
+        Player player = metrics.instrument(new Player(true));
+        // Published before the game can be found so the listener is in place before any bowls
+        feed.publish(id, 0, player);
+        games.put(id, player);
+        send(exchange, 201, ScorecardJson.created(id));
+    }
+
+    private void deleteGame(HttpExchange exchange, long id, Player player) throws IOException {
+        if (games.remove(id, player)) {
+            liveGames.decrementAndGet();
+        }
+        sendScorecard(exchange, 200, id, player);
+    }
+
+    private void addBowl(HttpExchange exchange, long id, Player player) throws IOException {
+        int pins = ScorecardJson.pins(readBody(exchange));
+        boolean added;
+        // A Player has a single writer, the snapshot lets the scorecard be read without the lock
+        synchronized (player) {
+            added = player.addBowl(pins);
+        }
+        sendScorecard(exchange, added ? 200 : 422, id, player);
+    }
+
+    /**
+     * Hands an event stream to a stream thread so it does not hold a request thread while it is open
+     * @return true if the stream was started, false if too many streams are open and 503 was sent
+     */
+    private boolean startStream(HttpExchange exchange, long id, Player player) throws IOException {
+        try {
+            streamExecutor.execute(() -> stream(exchange, id, player));
+            return true;
+        } catch (RejectedExecutionException e) {
+            send(exchange, 503, ScorecardJson.error("Too many event streams, try again later"));
+            return false;
+        }
+    }
+
+    private void stream(HttpExchange exchange, long id, Player player) {
+        try {
+            streamEvents(exchange, id, player);
+        } catch (IOException e) {
+            // The display went away
+            logger.info("Event stream for game {} closed: {}", id, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Failed to stream events for game {}", id, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Streams the scorecard and then the update after each bowl as server-sent events. The subscription
+     * is opened before the scorecard is read so no bowl is missed, updates already in the scorecard are
+     * skipped. If updates are dropped because this display has fallen behind the scorecard is sent again.
+     * The stream also ends once the game is deleted, which is noticed at the next keep alive.
+     */
+    private void streamEvents(HttpExchange exchange, long id, Player player) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        // The subscription is closed before the body so it is gone by the time the display sees the stream end
+        try (OutputStream body = exchange.getResponseBody();
+             Subscription subscription = feed.subscribeGame(id, ScoreFeed.DEFAULT_CAPACITY)) {
+            ScoreSnapshot snapshot = player.getSnapshot();
+            long version = snapshot.getVersion();
+            long dropped = 0;
+            boolean complete = snapshot.isComplete();
+            writeEvent(body, "scorecard", ScorecardJson.scorecard(id, snapshot));
+            while (!complete && games.get(id) == player) {
+                ScoreUpdate update = subscription.poll(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                if (subscription.getDropped() != dropped) {
+                    dropped = subscription.getDropped();
+                    snapshot = player.getSnapshot();
+                    version = snapshot.getVersion();
+                    complete = snapshot.isComplete();
+                    writeEvent(body, "scorecard", ScorecardJson.scorecard(id, snapshot));
+                }
+                if (update == null) {
+                    body.write(KEEP_ALIVE);
+                    body.flush();
+                } else if (update.getVersion() > version) {
+                    version = update.getVersion();
+                    complete = update.isComplete();
+                    writeEvent(body, "update", ScorecardJson.update(update));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeEvent(OutputStream body, String event, String json) throws IOException {
+        body.write("event: %s\ndata: %s\n\n".formatted(event, json).getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private void sendScorecard(HttpExchange exchange, int status, long id, Player player) throws IOException {
+        send(exchange, status, ScorecardJson.scorecard(id, player.getSnapshot()));
+    }
+
+    private void sendMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (exchange.getRequestMethod().equals("GET")) {
+                send(exchange, 200, BowlingMetrics.CONTENT_TYPE, metrics.toPrometheus());
+            } else {
+                send(exchange, 405, ScorecardJson.error("Use GET to read the metrics"));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid game id %s".formatted(id));
+        }
+    }
+
+    private String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String json) throws IOException {
+        send(exchange, status, "application/json", json);
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
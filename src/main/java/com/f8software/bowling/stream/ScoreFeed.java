@@ -0,0 +1,141 @@
+package com.f8software.bowling.stream;
+
+import com.f8software.bowling.model.BowlEvent;
+import com.f8software.bowling.model.BowlListener;
+import com.f8software.bowling.model.Player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The ScoreFeed publishes a {@link ScoreUpdate} after every accepted bowl to the subscribers of the game
+ * and of the lane it is played on. Games are published by attaching a {@link BowlListener} to
+ * their Player, so updates are created from the Player's {@link BowlEvent} on the thread adding bowls
+ * and handed to each subscriber's bounded buffer without waiting.
+ *
+ * Any number of threads can subscribe and unsubscribe at any time.
+ */
+public class ScoreFeed {
+    public static final int DEFAULT_CAPACITY = 256;
+    private final Map<Long, List<Subscription>> gameSubscribers = new ConcurrentHashMap<>();
+    private final Map<Integer, List<Subscription>> laneSubscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Publishes updates for a game. This adds a listener to the Player, so it must be called
+     * from the thread adding bowls, before the bowls to be published are added.
+     * @param game the id of the game
+     * @param lane the lane the game is played on
+     * @param player the Player of the game
+     */
+    public void publish(long game, int lane, Player player) {
+        player.addBowlListener(new GamePublisher(game, lane));
+    }
+
+    /**
+     * Subscribes to the updates of a game, dropping the oldest update when the buffer is full
+     * @param game the id of the game
+     * @param capacity the number of updates buffered
+     * @return the subscription
+     */
+    public Subscription subscribeGame(long game, int capacity) {
+        return subscribe(gameSubscribers, game, capacity, Subscription.Overflow.DROP_OLDEST);
+    }
+
+    /**
+     * Subscribes to the updates of a game
+     * @param game the id of the game
+     * @param capacity the number of updates buffered
+     * @param overflow what to drop when the buffer is full
+     * @return the subscription
+     */
+    public Subscription subscribeGame(long game, int capacity, Subscription.Overflow overflow) {
+        return subscribe(gameSubscribers, game, capacity, overflow);
+    }
+
+    /**
+     * Subscribes to the updates of every game on a lane, dropping the oldest update when the buffer is full
+     * @param lane the lane
+     * @param capacity the number of updates buffered
+     * @return the subscription
+     */
+    public Subscription subscribeLane(int lane, int capacity) {
+        return subscribe(laneSubscribers, lane, capacity, Subscription.Overflow.DROP_OLDEST);
+    }
+
+    /**
+     * Subscribes to the updates of every game on a lane
+     * @param lane the lane
+     * @param capacity the number of updates buffered
+     * @param overflow what to drop when the buffer is full
+     * @return the subscription
+     */
+    public Subscription subscribeLane(int lane, int capacity, Subscription.Overflow overflow) {
+        return subscribe(laneSubscribers, lane, capacity, overflow);
+    }
+
+    /**
+     * @return the number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        int count = 0;
+        for (List<Subscription> subscriptions : gameSubscribers.values()) {
+            count += subscriptions.size();
+        }
+        for (List<Subscription> subscriptions : laneSubscribers.values()) {
+            count += subscriptions.size();
+        }
+        return count;
+    }
+
+    private <K> Subscription subscribe(Map<K, List<Subscription>> subscribers, K key, int capacity, Subscription.Overflow overflow) {
+        Subscription[] created = new Subscription[1];
+        created[0] = new Subscription(capacity, overflow, () -> subscribers.computeIfPresent(key, (k, list) -> {
+            list.remove(created[0]);
+            return list.isEmpty() ? null : list;
+        }));
+        subscribers.compute(key, (k, list) -> {
+            List<Subscription> subscriptions = list == null ? new CopyOnWriteArrayList<>() : list;
+            subscriptions.add(created[0]);
+            return subscriptions;
+        });
+        return created[0];
+    }
+
+    /**
+     * Creates the update for each bowl added to a game and offers it to the subscribers
+     */
+    private class GamePublisher implements BowlListener {
+        private final long game;
+        private final int lane;
+
+        GamePublisher(long game, int lane) {
+            this.game = game;
+            this.lane = lane;
+        }
+
+        @Override
+        public void bowled(Player player, BowlEvent event) {
+            if (!event.isAccepted()) {
+                return;
+            }
+            List<Subscription> forGame = gameSubscribers.get(game);
+            List<Subscription> forLane = laneSubscribers.get(lane);
+            if (forGame == null && forLane == null) {
+                return;
+            }
+            ScoreUpdate update = new ScoreUpdate(game, lane, event);
+            offer(forGame, update);
+            offer(forLane, update);
+        }
+
+        private void offer(List<Subscription> subscriptions, ScoreUpdate update) {
+            if (subscriptions != null) {
+                for (Subscription subscription : subscriptions) {
+                    subscription.offer(update);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.f8software.bowling.stream;
+
+import com.f8software.bowling.model.BowlEvent;
+import com.f8software.bowling.model.Player;
+
+/**
+ * A ScoreUpdate describes how a game changed after a bowl - the Frame bowled in and its bowls so far,
+ * and the running scores of the Frames that changed, taken from the Player's {@link BowlEvent}.
+ * A bowl can only change the score of the Frame it was bowled in and the two Frames before it,
+ * so an update never holds more than three scores.
+ *
+ * Updates are immutable and are shared by every subscriber.
+ */
+public class ScoreUpdate {
+    private final long game;
+    private final int lane;
+    private final BowlEvent event;
+
+    ScoreUpdate(long game, int lane, BowlEvent event) {
+        this.game = game;
+        this.lane = lane;
+        this.event = event;
+    }
+
+    /**
+     * @return the id of the game
+     */
+    public long getGame() {
+        return game;
+    }
+
+    /**
+     * @return the lane the game is played on
+     */
+    public int getLane() {
+        return lane;
+    }
+
+    /**
+     * Returns the number of bowls in the game after this bowl, a subscriber that sees a gap in
+     * the versions has missed updates and can read the whole game from {@link Player#getSnapshot()}
+     * @return the version of the game
+     */
+    public long getVersion() {
+        return event.getVersion();
+    }
+
+    /**
+     * @return the pins knocked down by the bowl
+     */
+    public int getBowl() {
+        return event.getBowl();
+    }
+
+    /**
+     * @return the index of the Frame the bowl was added to, starting at zero
+     */
+    public int getFrame() {
+        return event.getFrame();
+    }
+
+    /**
+     * @return the number of bowls in the Frame bowled in, including this one
+     */
+    public int getFrameBowlCount() {
+        return event.getFrameBowlCount();
+    }
+
+    /**
+     * Returns a bowl from the Frame bowled in
+     * @param i the index of the bowl in the Frame, starting at zero
+     * @return the pins knocked down
+     */
+    public int getFrameBowl(int i) {
+        return event.getFrameBowl(i);
+    }
+
+    /**
+     * @return the index of the first Frame whose score changed, or one past the Frame bowled in if none changed
+     */
+    public int getFirstChangedFrame() {
+        return event.getFirstChangedFrame();
+    }
+
+    /**
+     * @return the number of Frames whose score changed
+     */
+    public int getChangedFrameCount() {
+        return event.getChangedFrameCount();
+    }
+
+    /**
+     * Returns the new running score of a changed Frame
+     * @param frame the index of the Frame in the game, from {@link #getFirstChangedFrame()} to {@link #getFrame()}
+     * @return the running score of the Frame
+     */
+    public int getScore(int frame) {
+        return event.getScore(frame);
+    }
+
+    /**
+     * @return the running total of the game after this bowl
+     */
+    public int getTotalScore() {
+        return event.getTotalScore();
+    }
+
+    /**
+     * @return true if this bowl completed the game
+     */
+    public boolean isComplete() {
+        return event.isGameComplete();
+    }
+}
@@ -0,0 +1,112 @@
+package com.f8software.bowling.stream;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Subscription receives the {@link ScoreUpdate}s for a game or lane from a {@link ScoreFeed}.
+ * Updates are held in a bounded buffer until the subscriber takes them. Scoring never waits for a
+ * subscriber, when the buffer is full an update is dropped according to the {@link Overflow} policy
+ * and counted, so a slow display falls behind rather than holding up the game.
+ */
+public class Subscription implements AutoCloseable {
+
+    /**
+     * What to drop when an update arrives and the buffer is full
+     */
+    public enum Overflow {DROP_OLDEST, DROP_NEWEST}
+
+    private final ArrayBlockingQueue<ScoreUpdate> buffer;
+    private final Overflow overflow;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Runnable unsubscribe;
+    private volatile boolean closed;
+
+    Subscription(int capacity, Overflow overflow, Runnable unsubscribe) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflow = overflow;
+        this.unsubscribe = unsubscribe;
+    }
+
+    /**
+     * Called on the thread adding bowls, never blocks
+     */
+    void offer(ScoreUpdate update) {
+        if (overflow == Overflow.DROP_NEWEST) {
+            if (!buffer.offer(update)) {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+        while (!buffer.offer(update)) {
+            if (buffer.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest update in the buffer
+     * @return the update or null if there are none
+     */
+    public ScoreUpdate poll() {
+        return buffer.poll();
+    }
+
+    /**
+     * Takes the oldest update in the buffer, waiting for one to arrive if there are none
+     * @param timeout how long to wait
+     * @param unit the unit of the timeout
+     * @return the update or null if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public ScoreUpdate poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return buffer.poll(timeout, unit);
+    }
+
+    /**
+     * Takes every update in the buffer
+     * @param updates the collection to add the updates to
+     * @return the number of updates taken
+     */
+    public int drainTo(Collection<? super ScoreUpdate> updates) {
+        return buffer.drainTo(updates);
+    }
+
+    /**
+     * @return the number of updates waiting in the buffer
+     */
+    public int getBuffered() {
+        return buffer.size();
+    }
+
+    /**
+     * @return the number of updates dropped because the buffer was full
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return true once this subscription has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops receiving updates, updates already in the buffer can still be taken
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            unsubscribe.run();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.f8software.bowling;
+
+import com.f8software.bowling.input.StreamInputProvider;
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BowlingGameTest {
+
+    @Test
+    void invalidPipedInputSkippedTest() {
+        String bowls = "10 10 x12 10 10 10 10 10 1o 10 10 10 10 10\n";
+        StreamInputProvider input = new StreamInputProvider(new ByteArrayInputStream(bowls.getBytes(StandardCharsets.UTF_8)));
+        List<Player> rendered = new ArrayList<>();
+        new BowlingGame(input, rendered::add).play();
+        // The typos are skipped and the game is played to the end
+        Player player = rendered.get(rendered.size() - 1);
+        assertTrue(player.isComplete());
+        assertEquals(300, player.getTotalScore());
+        assertEquals(13, rendered.size());
+    }
+}
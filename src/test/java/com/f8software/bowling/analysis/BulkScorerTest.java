@@ -0,0 +1,76 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.model.Scorer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkScorerTest {
+
+    BulkScorer scorer;
+    @BeforeEach
+    void setUp() {
+        scorer = new BulkScorer(4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scorer.close();
+    }
+
+    @Test
+    void emptyTest() {
+        ScoreSummary summary = scorer.summarise(new int[0], new int[]{0});
+        assertEquals(0, summary.getGames());
+        assertEquals(0, summary.getAverage());
+    }
+
+    @Test
+    void matchesSequentialTest() {
+        Random random = new Random(3);
+        int games = 1000;
+        int[] bowls = new int[games * 21];
+        int[] offsets = new int[games + 1];
+        int count = 0;
+        for (int game = 0; game < games; game++) {
+            offsets[game] = count;
+            // Random bowls that never knock down all the pins, with the final Frame open
+            for (int frame = 0; frame < 10; frame++) {
+                int first = random.nextInt(10);
+                bowls[count++] = first;
+                bowls[count++] = random.nextInt(10 - first);
+            }
+            if (game % 2 == 0) {
+                // Make every other game perfect
+                Arrays.fill(bowls, offsets[game], offsets[game] + 12, 10);
+                count = offsets[game] + 12;
+            }
+        }
+        offsets[games] = count;
+
+        int[] finalScores = new int[games];
+        ScoreSummary summary = scorer.score(bowls, offsets, finalScores);
+
+        long total = 0;
+        for (int game = 0; game < games; game++) {
+            int[] scores = Scorer.score(Arrays.copyOfRange(bowls, offsets[game], offsets[game + 1]));
+            assertEquals(scores[9], finalScores[game]);
+            total += scores[9];
+        }
+        assertEquals(games, summary.getGames());
+        assertEquals(total, summary.getTotal());
+        assertEquals(500, summary.getCount(300));
+        assertEquals(300, summary.getMax());
+        assertEquals((double) total / games, summary.getAverage());
+    }
+
+    @Test
+    void invalidGameTest() {
+        assertThrows(IllegalArgumentException.class, () -> scorer.summarise(new int[]{11}, new int[]{0, 1}));
+    }
+}
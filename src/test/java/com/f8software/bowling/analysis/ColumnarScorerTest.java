@@ -0,0 +1,102 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.model.GameStore;
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarScorerTest {
+
+    GameColumns games;
+    @BeforeEach
+    void setUp() {
+        games = new GameColumns(2);
+    }
+
+    @Test
+    void emptyTest() {
+        int[][] scores = ColumnarScorer.score(games);
+        assertEquals(10, scores.length);
+        assertEquals(0, scores[9].length);
+    }
+
+    @Test
+    void knownGamesTest() {
+        int[] perfect = new int[12];
+        Arrays.fill(perfect, 10);
+        int[] spares = new int[21];
+        Arrays.fill(spares, 5);
+        games.add(perfect);
+        games.add(spares);
+        games.add(new int[20]);
+        games.add(new int[]{10, 10, 3});
+
+        int[][] scores = ColumnarScorer.score(games);
+        assertEquals(300, scores[9][0]);
+        assertEquals(150, scores[9][1]);
+        assertEquals(0, scores[9][2]);
+        assertEquals(23, scores[0][3]);
+        assertEquals(36, scores[1][3]);
+        assertEquals(39, scores[2][3]);
+        assertEquals(3, games.getFramesStarted(3));
+
+        int[] finalScores = new int[4];
+        ColumnarScorer.finalScores(games, finalScores);
+        assertArrayEquals(new int[]{300, 150, 0, 39}, finalScores);
+    }
+
+    @Test
+    void invalidGameTest() {
+        assertThrows(IllegalArgumentException.class, () -> games.add(new int[]{5, 6}));
+        assertThrows(IllegalArgumentException.class, () -> games.add(new int[21]));
+        assertEquals(0, games.size());
+    }
+
+    @Test
+    void matchesPlayerTest() {
+        Random random = new Random(7);
+        List<Player> players = new ArrayList<>();
+        for (int game = 0; game < 5000; game++) {
+            int[] bowls = randomGame(random, random.nextInt(22));
+            Player player = new Player();
+            for (int bowl : bowls) {
+                player.addBowl(bowl);
+            }
+            players.add(player);
+            assertEquals(game, games.add(bowls));
+        }
+
+        int[][] scores = ColumnarScorer.score(games);
+        for (int game = 0; game < players.size(); game++) {
+            List<Integer> expected = players.get(game).getScores();
+            assertEquals(expected.size(), games.getFramesStarted(game));
+            for (int frame = 0; frame < expected.size(); frame++) {
+                assertEquals(expected.get(frame), scores[frame][game], "game %s frame %s".formatted(game, frame));
+            }
+        }
+    }
+
+    /**
+     * Plays random bowls, weighted towards strikes and spares, until the game is complete
+     * or has the number of bowls given
+     */
+    private int[] randomGame(Random random, int length) {
+        GameStore store = new GameStore(1);
+        int game = store.newGame();
+        while (store.getBowlCount(game) < length && !store.isComplete(game)) {
+            store.addBowl(game, random.nextBoolean() ? 10 - random.nextInt(3) : random.nextInt(11));
+        }
+        int[] bowls = new int[store.getBowlCount(game)];
+        for (int i = 0; i < bowls.length; i++) {
+            bowls[i] = store.getBowl(game, i);
+        }
+        return bowls;
+    }
+}
@@ -0,0 +1,96 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.model.Scorer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreDistributionTest {
+
+    ScoreDistribution distribution;
+    @BeforeEach
+    void setUp() {
+        distribution = ScoreDistribution.compute();
+    }
+
+    @Test
+    void gameCountTest() {
+        // 66 ways to play each of the first nine Frames and 241 ways to play the last
+        long games = BigInteger.valueOf(66).pow(9).multiply(BigInteger.valueOf(241)).longValueExact();
+        assertEquals(games, distribution.getGames());
+        assertEquals(1.0, distribution.getProbabilityAtLeast(0), 1e-12);
+    }
+
+    @Test
+    void extremeScoresTest() {
+        assertEquals(1, distribution.getCount(0));
+        // A single pin in any one of the twenty bowls of an open game
+        assertEquals(20, distribution.getCount(1));
+        assertEquals(1, distribution.getCount(300));
+        // Eleven strikes followed by a nine
+        assertEquals(1, distribution.getCount(299));
+        assertEquals(0, distribution.getCount(301));
+        assertEquals(0, distribution.getCount(-1));
+    }
+
+    @Test
+    void parallelTest() {
+        ScoreDistribution parallel = ScoreDistribution.compute(4);
+        for (int score = 0; score <= ScoreDistribution.MAX_SCORE; score++) {
+            assertEquals(distribution.getCount(score), parallel.getCount(score));
+        }
+    }
+
+    @Test
+    void matchesSampledGamesTest() {
+        // Every legal game is a unique sequence of Frames, so picking each Frame uniformly samples games uniformly
+        List<int[]> frames = new ArrayList<>();
+        frames.add(new int[]{10});
+        for (int first = 0; first < 10; first++) {
+            for (int second = 0; second <= 10 - first; second++) {
+                frames.add(new int[]{first, second});
+            }
+        }
+        List<int[]> lastFrames = new ArrayList<>();
+        for (int first = 0; first <= 10; first++) {
+            for (int second = 0; second <= (first == 10 ? 10 : 10 - first); second++) {
+                if (first + second < 10) {
+                    lastFrames.add(new int[]{first, second});
+                } else {
+                    for (int third = 0; third <= (first == 10 && second != 10 ? 10 - second : 10); third++) {
+                        lastFrames.add(new int[]{first, second, third});
+                    }
+                }
+            }
+        }
+        assertEquals(241, lastFrames.size());
+
+        Random random = new Random(11);
+        int samples = 200_000;
+        double total = 0;
+        int[] bowls = new int[21];
+        for (int game = 0; game < samples; game++) {
+            int count = 0;
+            for (int frame = 0; frame < 10; frame++) {
+                int[] played = frame < 9 ? frames.get(random.nextInt(frames.size())) : lastFrames.get(random.nextInt(lastFrames.size()));
+                System.arraycopy(played, 0, bowls, count, played.length);
+                count += played.length;
+            }
+            int[] scores = new int[10];
+            Scorer.score(bowls, 0, count, scores, 0);
+            total += scores[9];
+        }
+
+        double mean = 0;
+        for (int score = 0; score <= ScoreDistribution.MAX_SCORE; score++) {
+            mean += score * distribution.getProbability(score);
+        }
+        assertEquals(mean, total / samples, 0.2);
+    }
+}
@@ -0,0 +1,146 @@
+package com.f8software.bowling.analysis;
+
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinProbabilitySimulatorTest {
+
+    WinProbabilitySimulator simulator;
+    @BeforeEach
+    void setUp() {
+        simulator = new WinProbabilitySimulator(4, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void certainWinnerTest() {
+        Player perfect = new Player();
+        for (int i = 0; i < 12; i++) {
+            perfect.addBowl(10);
+        }
+        Player gutter = new Player();
+        gutter.addBowl(0);
+
+        SimulationResult result = simulator.simulate(Arrays.asList(gutter, perfect),
+                Arrays.asList(PinModel.binomial(0), PinModel.uniform()), 10_000, 1);
+        assertEquals(10_000, result.getTrials());
+        assertEquals(0, result.getWinProbability(0));
+        assertEquals(1, result.getWinProbability(1));
+        assertEquals(0, result.getAverageScore(0));
+        assertEquals(300, result.getAverageScore(1));
+        assertTrue(result.getWinProbabilityLower(1) > 0.999);
+        assertEquals(1, result.getWinProbabilityUpper(1));
+    }
+
+    @Test
+    void pinModelTest() {
+        SimulationResult result = simulator.simulate(Arrays.asList(new Player(), new Player()),
+                Arrays.asList(PinModel.binomial(1), PinModel.binomial(0)), 5000, 2);
+        assertEquals(1, result.getWinProbability(0));
+        assertEquals(300, result.getAverageScore(0));
+        assertEquals(0, result.getAverageScore(1));
+    }
+
+    @Test
+    void evenGameTest() {
+        SimulationResult result = simulator.simulate(Arrays.asList(new Player(), new Player()),
+                Arrays.asList(PinModel.uniform(), PinModel.uniform()), 200_000, 3);
+        double expected = (1 - result.getTieProbability()) / 2;
+        for (int player = 0; player < 2; player++) {
+            assertTrue(result.getWinProbabilityLower(player) < expected);
+            assertTrue(result.getWinProbabilityUpper(player) > expected);
+            assertTrue(result.getWinProbabilityUpper(player) - result.getWinProbabilityLower(player) < 0.01);
+        }
+        assertEquals(result.getTrials(), result.getWins(0) + result.getWins(1) + Math.round(result.getTieProbability() * result.getTrials()));
+    }
+
+    @Test
+    void sameSeedSameResultTest() {
+        Player leader = new Player();
+        leader.addBowl(10);
+        leader.addBowl(7);
+        List<Player> players = Arrays.asList(leader, new Player(), new Player());
+        List<PinModel> models = Arrays.asList(PinModel.uniform(), PinModel.binomial(0.8), PinModel.binomial(0.6));
+
+        SimulationResult result = simulator.simulate(players, models, 25_500, 4);
+        try (WinProbabilitySimulator single = new WinProbabilitySimulator(1, 1000)) {
+            SimulationResult again = single.simulate(players, models, 25_500, 4);
+            for (int player = 0; player < players.size(); player++) {
+                assertEquals(result.getWins(player), again.getWins(player));
+                assertEquals(result.getAverageScore(player), again.getAverageScore(player));
+            }
+        }
+    }
+
+    @Test
+    void noTrialsTest() {
+        SimulationResult result = simulator.simulate(List.of(new Player()), List.of(PinModel.uniform()), 0, 5);
+        assertEquals(0, result.getTrials());
+        assertEquals(0, result.getWinProbability(0));
+    }
+
+    @Test
+    void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(List.of(new Player()), List.of(), 10, 6));
+        assertThrows(IllegalArgumentException.class, () -> PinModel.binomial(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new PinModel(new double[11][1]));
+    }
+
+    @Test
+    void pinModelSampleTest() {
+        SplittableRandom random = new SplittableRandom(7);
+        PinModel model = PinModel.uniform();
+        int[] counts = new int[11];
+        for (int i = 0; i < 110_000; i++) {
+            counts[model.bowl(10, random)]++;
+        }
+        for (int count : counts) {
+            assertEquals(10_000, count, 500);
+        }
+        assertEquals(0, model.bowl(0, random));
+        assertEquals(3, PinModel.binomial(1).bowl(3, random));
+    }
+
+    @Test
+    void simulatedGameMatchesPlayerTest() {
+        Random random = new Random(8);
+        for (int game = 0; game < 500; game++) {
+            List<Integer> bowls = new ArrayList<>();
+            Player full = new Player();
+            while (!full.isComplete()) {
+                int bowl = random.nextBoolean() ? 10 - random.nextInt(3) : random.nextInt(11);
+                if (full.addBowl(bowl)) {
+                    bowls.add(bowl);
+                }
+            }
+            // Start from every point in the game and bowl the rest
+            for (int played = 0; played <= bowls.size(); played++) {
+                Player partial = new Player(game % 2 == 0);
+                for (int i = 0; i < played; i++) {
+                    partial.addBowl(bowls.get(i));
+                }
+                SimulatedGame simulated = new SimulatedGame(partial);
+                for (int i = played; i < bowls.size(); i++) {
+                    assertFalse(simulated.isComplete());
+                    simulated.bowl(bowls.get(i));
+                }
+                assertTrue(simulated.isComplete(), bowls.toString());
+                assertEquals(full.getTotalScore(), simulated.getScore(), "%s after %s".formatted(bowls, played));
+            }
+        }
+    }
+}
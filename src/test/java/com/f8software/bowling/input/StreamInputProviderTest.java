@@ -0,0 +1,153 @@
+package com.f8software.bowling.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamInputProviderTest {
+
+    @Test
+    void singleInputTest() {
+        StreamInputProvider input = provider("3 7\n10,-1\r\n 0");
+        assertEquals(3, input.getInput());
+        assertEquals(7, input.getInput());
+        assertEquals(10, input.getInput());
+        assertEquals(-1, input.getInput());
+        assertEquals(0, input.getInput());
+        assertThrows(IllegalStateException.class, input::getInput);
+    }
+
+    @Test
+    void batchInputTest() {
+        StreamInputProvider input = provider("1 2 3 4 5\n");
+        int[] bowls = new int[3];
+        assertEquals(3, input.getInput(bowls));
+        assertArrayEquals(new int[]{1, 2, 3}, bowls);
+        assertEquals(2, input.getInput(bowls));
+        assertEquals(4, bowls[0]);
+        assertEquals(5, bowls[1]);
+        assertEquals(-1, input.getInput(bowls));
+    }
+
+    @Test
+    void numberSplitAcrossReadsTest() {
+        // A channel that returns a single byte per read
+        byte[] bytes = "10 12 7".getBytes(StandardCharsets.US_ASCII);
+        ReadableByteChannel channel = new ReadableByteChannel() {
+            int position;
+
+            @Override
+            public int read(ByteBuffer dst) {
+                if (position == bytes.length) {
+                    return -1;
+                }
+                dst.put(bytes[position++]);
+                return 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        StreamInputProvider input = new StreamInputProvider(channel);
+        int[] bowls = new int[10];
+        assertEquals(1, input.getInput(bowls));
+        assertEquals(10, bowls[0]);
+        assertEquals(12, input.getInput());
+        assertEquals(7, input.getInput());
+    }
+
+    @Test
+    void invalidInputTest() {
+        StreamInputProvider input = provider("4 x 5");
+        assertEquals(4, input.getInput());
+        assertThrows(IllegalArgumentException.class, input::getInput);
+        assertEquals(5, input.getInput());
+    }
+
+    @Test
+    void invalidTokenSkippedTest() {
+        StreamInputProvider input = provider("x12 3a4,7 -");
+        assertThrows(IllegalArgumentException.class, input::getInput);
+        assertThrows(IllegalArgumentException.class, input::getInput);
+        assertEquals(7, input.getInput());
+        assertThrows(IllegalArgumentException.class, input::getInput);
+        assertThrows(IllegalStateException.class, input::getInput);
+    }
+
+    @Test
+    void invalidInputInBatchTest() {
+        StreamInputProvider input = provider("1 2 x9 3");
+        int[] bowls = new int[4];
+        // The bowls before the invalid input are returned, then the error is thrown
+        assertEquals(2, input.getInput(bowls));
+        assertEquals(1, bowls[0]);
+        assertEquals(2, bowls[1]);
+        assertThrows(IllegalArgumentException.class, () -> input.getInput(bowls));
+        assertEquals(1, input.getInput(bowls));
+        assertEquals(3, bowls[0]);
+        assertEquals(-1, input.getInput(bowls));
+    }
+
+    @Test
+    void emptyArrayTest() {
+        StreamInputProvider input = provider("1 2");
+        assertEquals(0, input.getInput(new int[0]));
+        assertEquals(1, input.getInput());
+    }
+
+    @Test
+    void failedReadTest() {
+        // A channel that has nothing to read, then fails once, then returns the bowls
+        byte[] bytes = "3 4".getBytes(StandardCharsets.US_ASCII);
+        ReadableByteChannel channel = new ReadableByteChannel() {
+            int reads;
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                reads++;
+                if (reads == 1) {
+                    return 0;
+                } else if (reads == 2) {
+                    dst.put((byte) '9');
+                    throw new IOException("Lost connection");
+                } else if (reads == 3) {
+                    dst.put(bytes);
+                    return bytes.length;
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        StreamInputProvider input = new StreamInputProvider(channel);
+        int[] bowls = new int[4];
+        assertThrows(UncheckedIOException.class, () -> input.getInput(bowls));
+        assertEquals(2, input.getInput(bowls));
+        assertArrayEquals(new int[]{3, 4, 0, 0}, bowls);
+        assertEquals(-1, input.getInput(bowls));
+    }
+
+    private StreamInputProvider provider(String text) {
+        return new StreamInputProvider(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.f8software.bowling.lane;
+
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.model.ScoreSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaneManagerTest {
+
+    LaneManager manager;
+    @BeforeEach
+    void setUp() {
+        manager = new LaneManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    void playersTakeTurnsTest() throws Exception {
+        Lane lane = manager.openLane(1, 2);
+        // Player one strikes, player two bowls 3 then 4, player one bowls 5
+        assertTrue(manager.submit(1, 10).get());
+        assertEquals(1, lane.getCurrentPlayer());
+        assertTrue(manager.submit(1, 3).get());
+        assertFalse(manager.submit(1, 9).get());
+        assertTrue(manager.submit(1, 4).get());
+        assertTrue(manager.submit(1, 5).get());
+
+        assertEquals(Arrays.asList(15, 20), lane.getPlayers().get(0).getScores());
+        assertEquals(Arrays.asList(7), lane.getPlayers().get(1).getScores());
+        assertEquals(4, manager.getBowls());
+    }
+
+    @Test
+    void gameCompletesTest() throws Exception {
+        Lane lane = manager.openLane(1, 3);
+        for (int i = 0; i < 36; i++) {
+            manager.submit(1, 10);
+        }
+        assertFalse(manager.submit(1, 10).get());
+        assertTrue(lane.isComplete());
+        for (Player player : lane.getPlayers()) {
+            assertEquals(300, player.getTotalScore());
+        }
+        for (ScoreSnapshot snapshot : lane.getSnapshots()) {
+            assertEquals(300, snapshot.getTotalScore());
+            assertTrue(snapshot.isComplete());
+        }
+    }
+
+    @Test
+    void slowLaneDoesNotBlockTest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Lane slow = manager.openLane(1, 1);
+        Future<?> slowGame = slow.play(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 10;
+        });
+        Lane fast = manager.openLane(2, 1);
+        for (int i = 0; i < 12; i++) {
+            manager.submit(2, 10);
+        }
+        assertFalse(manager.submit(2, 0).get(5, TimeUnit.SECONDS));
+        assertTrue(fast.isComplete());
+        assertFalse(slow.isComplete());
+        // The slow Lane's Player can be read while its thread is waiting for a bowl
+        assertEquals(0, slow.getSnapshots().get(0).getVersion());
+
+        release.countDown();
+        slowGame.get(5, TimeUnit.SECONDS);
+        assertTrue(slow.isComplete());
+        assertTrue(manager.getBowlsPerSecond() > 0);
+    }
+
+    @Test
+    void laneAlreadyOpenTest() {
+        manager.openLane(1, 1);
+        assertThrows(IllegalStateException.class, () -> manager.openLane(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> manager.submit(2, 1));
+    }
+}
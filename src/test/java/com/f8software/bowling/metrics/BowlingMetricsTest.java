@@ -0,0 +1,122 @@
+package com.f8software.bowling.metrics;
+
+import com.f8software.bowling.BowlingGame;
+import com.f8software.bowling.input.InputProvider;
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import com.f8software.bowling.render.Renderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BowlingMetricsTest {
+
+    BowlingMetrics metrics;
+    @BeforeEach
+    void setUp() {
+        // Time every call so the counts can be checked
+        metrics = new BowlingMetrics(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void countersTest() {
+        Player player = metrics.instrument(new Player());
+        // Strike, spare, open Frame and a rejected bowl
+        for (int bowl : new int[]{10, 7, 3, 4, 7, 2}) {
+            player.addBowl(bowl);
+        }
+        assertEquals(5, metrics.getBowlsAccepted());
+        assertEquals(1, metrics.getBowlsRejected(Frame.RejectReason.TOO_MANY_PINS));
+        assertEquals(1, metrics.getFramesCompleted(Frame.ScoreType.STRIKE));
+        assertEquals(1, metrics.getFramesCompleted(Frame.ScoreType.SPARE));
+        assertEquals(1, metrics.getFramesCompleted(Frame.ScoreType.NORMAL));
+        assertEquals(1.0 / 3, metrics.getRate(Frame.ScoreType.STRIKE), 1e-9);
+        assertEquals(5, metrics.getUpdateScoresLatency().getCount());
+        assertEquals(0, metrics.getGamesCompleted());
+
+        for (int i = 0; i < 15; i++) {
+            player.addBowl(10);
+        }
+        assertEquals(1, metrics.getGamesCompleted());
+        assertEquals(6, metrics.getBowlsRejected(Frame.RejectReason.GAME_COMPLETE));
+        assertEquals(8, metrics.getFramesCompleted(Frame.ScoreType.STRIKE));
+    }
+
+    @Test
+    void noMetricsTest() {
+        assertEquals(0, metrics.getRate(Frame.ScoreType.SPARE));
+        assertEquals(0, metrics.getRenderLatency().getValueAtPercentile(99));
+        assertTrue(metrics.toPrometheus().contains("\nbowling_input_wait_seconds_count 0\n"));
+    }
+
+    @Test
+    void gameTest() {
+        List<Player> rendered = new ArrayList<>();
+        InputProvider input = new InputProvider() {
+            int next;
+
+            @Override
+            public int getInput() {
+                return next++ < 20 ? 4 : -1;
+            }
+        };
+        new BowlingGame(input, rendered::add, metrics).play();
+        // The blank scorecard and once after each bowl
+        assertEquals(21, rendered.size());
+        assertEquals(21, metrics.getRenders());
+        assertEquals(21, metrics.getRenderLatency().getCount());
+        assertEquals(20, metrics.getInputWait().getCount());
+        assertEquals(20, metrics.getBowlsAccepted());
+        assertEquals(1, metrics.getGamesCompleted());
+    }
+
+    @Test
+    void samplingTest() {
+        metrics = new BowlingMetrics(4);
+        Player player = metrics.instrument(new Player());
+        List<Player> rendered = new ArrayList<>();
+        Renderer renderer = metrics.timed(rendered::add);
+        for (int i = 0; i < 10; i++) {
+            player.addBowl(3);
+            renderer.render(player);
+        }
+        // Everything is counted but only every fourth call is timed
+        assertEquals(10, metrics.getBowlsAccepted());
+        assertEquals(10, metrics.getRenders());
+        assertEquals(10, rendered.size());
+        assertEquals(2, metrics.getUpdateScoresLatency().getCount());
+        assertEquals(2, metrics.getRenderLatency().getCount());
+        assertTrue(metrics.toPrometheus().contains("# HELP bowling_render_seconds Time to render a game (sampled 1 in 4)\n"));
+        assertThrows(IllegalArgumentException.class, () -> new BowlingMetrics(0));
+    }
+
+    @Test
+    void prometheusTest() {
+        Player player = metrics.instrument(new Player());
+        player.addBowl(10);
+        player.addBowl(11);
+        List<String> lines = Arrays.asList(metrics.toPrometheus().split("\n"));
+        assertTrue(lines.contains("# TYPE bowling_bowls_accepted_total counter"));
+        assertTrue(lines.contains("bowling_bowls_accepted_total 1"));
+        assertTrue(lines.contains("bowling_bowls_rejected_total{reason=\"too_many_pins\"} 1"));
+        assertTrue(lines.contains("bowling_bowls_rejected_total{reason=\"negative_pins\"} 0"));
+        assertTrue(lines.contains("bowling_strike_rate 1.0"));
+        assertTrue(lines.contains("# TYPE bowling_update_scores_seconds summary"));
+        assertTrue(lines.contains("bowling_update_scores_seconds_count 1"));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("bowling_update_scores_seconds{quantile=\"0.99\"} ")));
+        // Every line is a comment or a sample with a value
+        for (String line : lines) {
+            assertTrue(line.startsWith("# ") || line.matches("[a-z_]+(\\{[a-z]+=\"[a-z0-9._]+\"})? [0-9.E-]+"), line);
+        }
+    }
+}
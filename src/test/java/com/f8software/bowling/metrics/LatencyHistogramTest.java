@@ -0,0 +1,78 @@
+package com.f8software.bowling.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    LatencyHistogram histogram;
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void bucketsTest() {
+        // Every value maps to a bucket whose highest value is at or above it and within the precision
+        for (long value = 0; value < 1_000_000; value += value < 1000 ? 1 : 997) {
+            long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(value));
+            assertTrue(highest >= value, "value " + value);
+            assertTrue(highest - value <= value / 64, "value " + value);
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE, Math.min(LatencyHistogram.MAX_VALUE,
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(LatencyHistogram.MAX_VALUE))));
+    }
+
+    @Test
+    void percentileTest() {
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(50_005_000_000L, histogram.getSum());
+        assertEquals(5_000_000, histogram.getValueAtPercentile(50), 5_000_000 / 64.0);
+        assertEquals(9_900_000, histogram.getValueAtPercentile(99), 9_900_000 / 64.0);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(1000, histogram.getValueAtPercentile(0), 1000 / 64.0);
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    void outOfRangeTest() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void concurrentTest() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i % 500);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(400_000, histogram.getCount());
+        assertEquals(499, histogram.getMax());
+        assertEquals(4 * 200 * 124_750L, histogram.getSum());
+    }
+}
@@ -0,0 +1,150 @@
+package com.f8software.bowling.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BowlEventTest {
+
+    Player player;
+    List<BowlEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player();
+        events = new ArrayList<>();
+        player.addBowlListener((p, event) -> events.add(event));
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void firstBowlTest() {
+        player.addBowl(7);
+        BowlEvent event = events.get(0);
+        assertTrue(event.isAccepted());
+        assertNull(event.getRejectReason());
+        assertEquals(1, event.getVersion());
+        assertEquals(7, event.getBowl());
+        assertEquals(0, event.getFrame());
+        assertEquals(1, event.getFrameBowlCount());
+        assertEquals(7, event.getFrameBowl(0));
+        assertEquals(Frame.FrameState.NEW, event.getPreviousState());
+        assertEquals(Frame.FrameState.ONE_BOWLED, event.getState());
+        assertEquals(0, event.getFirstChangedFrame());
+        assertEquals(1, event.getChangedFrameCount());
+        assertEquals(7, event.getScore(0));
+        assertEquals(7, event.getTotalScore());
+        assertFalse(event.isGameComplete());
+    }
+
+    @Test
+    void spareTest() {
+        player.addBowl(7);
+        player.addBowl(3);
+        BowlEvent event = events.get(1);
+        assertEquals(Frame.FrameState.ONE_BOWLED, event.getPreviousState());
+        assertEquals(Frame.FrameState.COMPLETE, event.getState());
+        assertEquals(Frame.ScoreType.SPARE, event.getScoreType());
+        assertEquals(2, event.getFrameBowlCount());
+        assertEquals(10, event.getScore(0));
+
+        // The bonus changes the spare as well as the new Frame
+        player.addBowl(4);
+        event = events.get(2);
+        assertEquals(1, event.getFrame());
+        assertEquals(0, event.getFirstChangedFrame());
+        assertEquals(2, event.getChangedFrameCount());
+        assertEquals(14, event.getScore(0));
+        assertEquals(18, event.getScore(1));
+        assertEquals(18, event.getTotalScore());
+    }
+
+    @Test
+    void changedFramesTest() {
+        player.addBowl(10);
+        player.addBowl(10);
+        player.addBowl(10);
+        BowlEvent event = events.get(2);
+        assertEquals(2, event.getFrame());
+        assertEquals(0, event.getFirstChangedFrame());
+        assertEquals(3, event.getChangedFrameCount());
+        assertEquals(30, event.getScore(0));
+        assertEquals(50, event.getScore(1));
+        assertEquals(60, event.getScore(2));
+
+        // Only the strikes still waiting for a bonus change
+        player.addBowl(2);
+        event = events.get(3);
+        assertEquals(1, event.getFirstChangedFrame());
+        assertEquals(3, event.getChangedFrameCount());
+        assertEquals(52, event.getScore(1));
+        assertEquals(64, event.getScore(2));
+        assertEquals(66, event.getScore(3));
+    }
+
+    @Test
+    void unchangedScoreTest() {
+        player.addBowl(0);
+        player.addBowl(0);
+        BowlEvent event = events.get(1);
+        assertTrue(event.isAccepted());
+        assertEquals(Frame.FrameState.COMPLETE, event.getState());
+        assertEquals(1, event.getFirstChangedFrame());
+        assertEquals(0, event.getChangedFrameCount());
+        assertEquals(0, event.getTotalScore());
+    }
+
+    @Test
+    void rejectedTest() {
+        player.addBowl(6);
+        player.addBowl(5);
+        assertEquals(2, events.size());
+        BowlEvent event = events.get(1);
+        assertFalse(event.isAccepted());
+        assertEquals(Frame.RejectReason.TOO_MANY_PINS, event.getRejectReason());
+        assertEquals(1, event.getVersion());
+        assertEquals(5, event.getBowl());
+        assertEquals(Frame.FrameState.ONE_BOWLED, event.getPreviousState());
+        assertEquals(Frame.FrameState.ONE_BOWLED, event.getState());
+        assertEquals(1, event.getFrameBowlCount());
+        assertEquals(0, event.getChangedFrameCount());
+        assertEquals(6, event.getTotalScore());
+    }
+
+    @Test
+    void gameCompleteTest() {
+        for (int i = 0; i < 12; i++) {
+            player.addBowl(10);
+        }
+        BowlEvent last = events.get(11);
+        assertTrue(last.isGameComplete());
+        assertEquals(9, last.getFrame());
+        assertEquals(9, last.getFirstChangedFrame());
+        assertEquals(300, last.getScore(9));
+
+        player.addBowl(1);
+        BowlEvent event = events.get(12);
+        assertFalse(event.isAccepted());
+        assertEquals(Frame.RejectReason.GAME_COMPLETE, event.getRejectReason());
+        assertEquals(12, event.getVersion());
+        assertEquals(300, event.getTotalScore());
+        assertTrue(event.isGameComplete());
+    }
+
+    @Test
+    void removeListenerTest() {
+        BowlListener other = (p, event) -> fail("Removed listener was called");
+        player.addBowlListener(other);
+        player.removeBowlListener(other);
+        player.addBowl(3);
+        assertEquals(1, events.size());
+    }
+}
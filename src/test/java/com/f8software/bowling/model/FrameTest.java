@@ -4,6 +4,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class FrameTest {
@@ -131,4 +133,47 @@ class FrameTest {
         assertEquals(true, frame.addBowl(1));
         assertEquals(false, frame.addBowl(11));
     }
-}
\ No newline at end of file
+    @Test
+    void primitiveBowlAccessTest() {
+        frame.addBowl(4);
+        frame.addBowl(7);
+        frame.addBowl(3);
+
+        assertEquals(2, frame.getBowlCount());
+        assertEquals(4, frame.getBowl(0));
+        assertEquals(3, frame.getBowl(1));
+        assertEquals(0, frame.getBowl(2));
+        assertEquals(Arrays.asList(4, 3), frame.getBowls());
+    }
+    @Test
+    void pinsLeftTest() {
+        assertEquals(10, frame.getPinsLeft());
+        frame.addBowl(4);
+        assertEquals(6, frame.getPinsLeft());
+
+        Frame last = new Frame();
+        last.setLastFrame(true);
+        last.addBowl(10);
+        assertEquals(10, last.getPinsLeft());
+        last.addBowl(3);
+        assertEquals(7, last.getPinsLeft());
+        last.addBowl(7);
+        assertEquals(0, last.getPinsLeft());
+
+        // An open Frame has pins standing but no more bowls
+        frame.addBowl(3);
+        assertEquals(Frame.FrameState.COMPLETE, frame.getStatus());
+        assertEquals(0, frame.getPinsLeft());
+        assertFalse(frame.addBowl(0));
+    }
+    @Test
+    void rejectReasonTest() {
+        assertNull(frame.getRejectReason(10));
+        assertEquals(Frame.RejectReason.NEGATIVE_PINS, frame.getRejectReason(-1));
+        frame.addBowl(4);
+        assertEquals(Frame.RejectReason.TOO_MANY_PINS, frame.getRejectReason(7));
+        assertNull(frame.getRejectReason(6));
+        frame.addBowl(6);
+        assertEquals(Frame.RejectReason.FRAME_COMPLETE, frame.getRejectReason(0));
+    }
+}
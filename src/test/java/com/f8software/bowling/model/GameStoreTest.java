@@ -0,0 +1,86 @@
+package com.f8software.bowling.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStoreTest {
+
+    GameStore store;
+    @BeforeEach
+    void setUp() {
+        store = new GameStore(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void maximumTest() {
+        int game = store.newGame();
+        for (Integer bowl : Collections.nCopies(12, 10)) {
+            assertTrue(store.addBowl(game, bowl));
+        }
+        assertEquals(Arrays.asList(30, 60, 90, 120, 150, 180, 210, 240, 270, 300), store.getScores(game));
+        assertTrue(store.isComplete(game));
+        assertFalse(store.addBowl(game, 0));
+    }
+
+    @Test
+    void invalidBowlTest() {
+        int game = store.newGame();
+        assertFalse(store.addBowl(game, -1));
+        assertTrue(store.addBowl(game, 2));
+        assertFalse(store.addBowl(game, 9));
+        assertTrue(store.addBowl(game, 7));
+        assertEquals(Arrays.asList(9), store.getScores(game));
+    }
+
+    @Test
+    void gamesAreIndependentTest() {
+        int first = store.newGame();
+        int second = store.newGame();
+        store.addBowl(first, 10);
+        store.addBowl(second, 3);
+        store.addBowl(first, 4);
+        assertEquals(Arrays.asList(14, 18), store.getScores(first));
+        assertEquals(Arrays.asList(3), store.getScores(second));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void matchesPlayerTest() {
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            int game = store.newGame();
+            Player player = new Player();
+            while (!store.isComplete(game)) {
+                int bowl = random.nextInt(12) - 1;
+                boolean added = store.addBowl(game, bowl);
+                assertEquals(player.addBowl(bowl), added);
+                if (added) {
+                    assertEquals(player.getScores(), store.getScores(game));
+                }
+            }
+            assertEquals(player.getScores(), store.toPlayer(game).getScores());
+            Frame last = player.getFrames().get(9);
+            assertEquals(Frame.FrameState.COMPLETE, last.getStatus());
+        }
+    }
+
+    @Test
+    void capacityTest() {
+        assertEquals(32, GameStore.grownCapacity(16));
+        // Growing past the largest array is capped rather than overflowing
+        assertEquals(GameStore.MAX_GAMES, GameStore.grownCapacity(GameStore.MAX_GAMES / 2 + 1));
+        assertEquals(GameStore.MAX_GAMES, GameStore.grownCapacity(GameStore.MAX_GAMES));
+        assertThrows(IllegalArgumentException.class, () -> new GameStore(GameStore.MAX_GAMES + 1));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -232,4 +233,188 @@ class PlayerTest {
         assertEquals(Arrays.asList(18, 26, 43, 50), player.getScores());
     }
 
-}
\ No newline at end of file
+    @Test
+    void incrementalMatchesFullRescoreTest() {
+        Random random = new Random(42);
+        for (int game = 0; game < 500; game++) {
+            Player player = new Player();
+            while (player.getFrames().size() < 10 || player.getFrames().get(9).getStatus() != Frame.FrameState.COMPLETE) {
+                player.addBowl(random.nextInt(11));
+                List<Integer> incremental = player.getScores();
+                player.updateScores();
+                assertEquals(player.getScores(), incremental);
+                assertEquals(incremental.get(incremental.size() - 1), player.getTotalScore());
+            }
+        }
+    }
+
+    @Test
+    void snapshotTest() {
+        Player publishing = new Player(true);
+        publishing.addBowl(10);
+        ScoreSnapshot first = publishing.getSnapshot();
+        publishing.addBowl(3);
+        publishing.addBowl(4);
+
+        assertEquals(1, first.getVersion());
+        assertEquals(Arrays.asList(10), first.getScores());
+        assertEquals(3, publishing.getSnapshot().getVersion());
+        assertEquals(Arrays.asList(17, 24), publishing.getScores());
+        assertTrue(first.getFrames().get(0).isReadOnly());
+        assertThrows(IllegalStateException.class, () -> first.getFrames().get(0).addBowl(1));
+    }
+
+    @Test
+    void snapshotMatchesPlayerTest() {
+        Random random = new Random(5);
+        for (int game = 0; game < 200; game++) {
+            Player publishing = new Player(true);
+            while (!player.isComplete()) {
+                int bowl = random.nextInt(11);
+                if (player.addBowl(bowl)) {
+                    publishing.addBowl(bowl);
+                    assertEquals(player.getScores(), publishing.getScores());
+                    assertEquals(player.getSnapshot().getVersion(), publishing.getSnapshot().getVersion());
+                }
+            }
+            player = new Player();
+        }
+    }
+
+    @Test
+    void concurrentReaderTest() throws InterruptedException {
+        Player publishing = new Player(true);
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                List<Integer> scores = publishing.getSnapshot().getScores();
+                // Every running total of a perfect game is a multiple of ten
+                for (int i = 1; i < scores.size(); i++) {
+                    if (scores.get(i) < scores.get(i - 1) || scores.get(i) % 10 != 0) {
+                        failed.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 12; i++) {
+            publishing.addBowl(10);
+        }
+        done.set(true);
+        reader.join();
+        assertFalse(failed.get());
+        assertEquals(300, publishing.getTotalScore());
+    }
+
+    @Test
+    void projectionTest() {
+        assertEquals(0, player.getMinPossibleScore());
+        assertEquals(300, player.getMaxPossibleScore());
+        player.addBowl(3);
+        // A spare followed by nine perfect Frames
+        assertEquals(3, player.getMinPossibleScore());
+        assertEquals(290, player.getMaxPossibleScore());
+        player.addBowl(7);
+        assertEquals(10, player.getMinPossibleScore());
+        assertEquals(290, player.getMaxPossibleScore());
+        player.addBowl(10);
+        assertEquals(30, player.getMinPossibleScore());
+        assertEquals(290, player.getMaxPossibleScore());
+        player.addBowl(0);
+        assertEquals(30, player.getMinPossibleScore());
+        assertEquals(270, player.getMaxPossibleScore());
+        assertFalse(player.addBowl(11));
+        assertEquals(270, player.getMaxPossibleScore());
+    }
+
+    @Test
+    void projectionCompleteGameTest() {
+        Player publishing = new Player(true);
+        for (int i = 0; i < 21; i++) {
+            publishing.addBowl(5);
+        }
+        assertEquals(150, publishing.getMinPossibleScore());
+        assertEquals(150, publishing.getMaxPossibleScore());
+        assertEquals(150, publishing.getSnapshot().getMaxPossibleScore());
+    }
+
+    @Test
+    void projectionMatchesBestPlayoutTest() {
+        Random random = new Random(5);
+        for (int game = 0; game < 2000; game++) {
+            Player played = new Player();
+            List<Integer> bowls = new ArrayList<>();
+            int length = random.nextInt(21);
+            while (bowls.size() < length && !played.isComplete()) {
+                int bowl = random.nextBoolean() ? 10 - random.nextInt(3) : random.nextInt(11);
+                if (played.addBowl(bowl)) {
+                    bowls.add(bowl);
+                }
+            }
+            Player best = replay(bowls);
+            while (!best.isComplete()) {
+                best.addBowl(best.getCurrentFrame().getPinsLeft());
+            }
+            assertEquals(best.getTotalScore(), played.getMaxPossibleScore(), bowls.toString());
+            assertEquals(bowls.isEmpty() ? 0 : played.getTotalScore(), played.getMinPossibleScore(), bowls.toString());
+        }
+    }
+
+    @Test
+    void projectionMatchesAllPlayoutsTest() {
+        // Every position in the last two Frames after a strike in the eighth
+        List<Integer> start = new ArrayList<>(Collections.nCopies(14, 0));
+        start.add(10);
+        checkAllPlayouts(start);
+    }
+
+    /**
+     * Plays out every legal continuation of the game, checking the projection at each position
+     * holds the lowest and highest final scores reached
+     * @return the lowest and highest final scores
+     */
+    private int[] checkAllPlayouts(List<Integer> bowls) {
+        Player position = replay(bowls);
+        if (position.isComplete()) {
+            return new int[]{position.getTotalScore(), position.getTotalScore()};
+        }
+        int[] range = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int pinsLeft = position.getCurrentFrame().getPinsLeft();
+        for (int bowl = 0; bowl <= pinsLeft; bowl++) {
+            List<Integer> next = new ArrayList<>(bowls);
+            next.add(bowl);
+            int[] reached = checkAllPlayouts(next);
+            range[0] = Math.min(range[0], reached[0]);
+            range[1] = Math.max(range[1], reached[1]);
+        }
+        assertEquals(range[0], position.getMinPossibleScore(), bowls.toString());
+        assertEquals(range[1], position.getMaxPossibleScore(), bowls.toString());
+        return range;
+    }
+
+    private Player replay(List<Integer> bowls) {
+        Player replayed = new Player();
+        for (int bowl : bowls) {
+            replayed.addBowl(bowl);
+        }
+        return replayed;
+    }
+
+    @Test
+    void rejectReasonTest() {
+        assertNull(player.getRejectReason(10));
+        assertEquals(Frame.RejectReason.TOO_MANY_PINS, player.getRejectReason(11));
+        player.addBowl(10);
+        assertEquals(Frame.RejectReason.NEGATIVE_PINS, player.getRejectReason(-1));
+        player.addBowl(3);
+        assertEquals(Frame.RejectReason.TOO_MANY_PINS, player.getRejectReason(8));
+        assertFalse(player.addBowl(8));
+        for (int i = 0; i < 17; i++) {
+            assertNull(player.getRejectReason(0));
+            player.addBowl(0);
+        }
+        assertTrue(player.isComplete());
+        assertEquals(Frame.RejectReason.GAME_COMPLETE, player.getRejectReason(0));
+    }
+}
@@ -0,0 +1,67 @@
+package com.f8software.bowling.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScorerTest {
+
+    @Test
+    void maximumTest() {
+        int[] bowls = new int[12];
+        Arrays.fill(bowls, 10);
+        assertArrayEquals(new int[]{30, 60, 90, 120, 150, 180, 210, 240, 270, 300}, Scorer.score(bowls));
+    }
+
+    @Test
+    void partialGameTest() {
+        assertArrayEquals(new int[]{}, Scorer.score(new int[]{}));
+        assertArrayEquals(new int[]{12, 14}, Scorer.score(new int[]{10, 2}));
+        assertArrayEquals(new int[]{15, 20}, Scorer.score(new int[]{2, 8, 5}));
+    }
+
+    @Test
+    void invalidBowlTest() {
+        assertThrows(IllegalArgumentException.class, () -> Scorer.score(new int[]{-1}));
+        assertThrows(IllegalArgumentException.class, () -> Scorer.score(new int[]{2, 9}));
+        assertThrows(IllegalArgumentException.class, () -> Scorer.score(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 10, 3, 8}));
+        // Only a strike or spare in the last frame allows a third bowl
+        assertThrows(IllegalArgumentException.class, () -> Scorer.score(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 3, 3, 3}));
+    }
+
+    @Test
+    void bulkTest() {
+        int[] bowls = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 3, 4};
+        int[] scores = Scorer.score(bowls, new int[]{0, 12, 14});
+        assertEquals(20, scores.length);
+        assertEquals(300, scores[9]);
+        assertEquals(7, scores[10]);
+        assertEquals(0, scores[11]);
+    }
+
+    @Test
+    void matchesPlayerTest() {
+        Random random = new Random(11);
+        for (int game = 0; game < 1000; game++) {
+            Player player = new Player();
+            int[] bowls = new int[21];
+            int count = 0;
+            while (player.getFrames().size() < 10 || player.getFrames().get(9).getStatus() != Frame.FrameState.COMPLETE) {
+                int bowl = random.nextInt(11);
+                if (player.addBowl(bowl)) {
+                    bowls[count++] = bowl;
+                    List<Integer> expected = player.getScores();
+                    int[] actual = Scorer.score(Arrays.copyOf(bowls, count));
+                    assertEquals(expected, Arrays.stream(actual).boxed().collect(Collectors.toList()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.f8software.bowling.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableScorerTest {
+
+    @Test
+    void maximumTest() {
+        int[] bowls = new int[12];
+        Arrays.fill(bowls, 10);
+        assertArrayEquals(new int[]{30, 60, 90, 120, 150, 180, 210, 240, 270, 300}, TableScorer.score(bowls));
+    }
+
+    @Test
+    void partialGameTest() {
+        assertArrayEquals(new int[]{}, TableScorer.score(new int[]{}));
+        assertArrayEquals(new int[]{10}, TableScorer.score(new int[]{10}));
+        assertArrayEquals(new int[]{12, 14}, TableScorer.score(new int[]{10, 2}));
+        assertArrayEquals(new int[]{15, 20}, TableScorer.score(new int[]{2, 8, 5}));
+    }
+
+    /**
+     * Plays every combination of three legal Frames in the middle of a game, with and without
+     * being followed by more bowls
+     */
+    @Test
+    void allFrameCombinationsTest() {
+        List<int[]> frames = legalFrames();
+        int[] bowls = new int[21];
+        for (int[] first : frames) {
+            for (int[] second : frames) {
+                for (int[] third : frames) {
+                    int count = 6;
+                    count = put(bowls, count, first);
+                    count = put(bowls, count, second);
+                    count = put(bowls, count, third);
+                    assertScoresMatch(bowls, count);
+                    // Followed by a strike in the seventh Frame
+                    bowls[count] = 10;
+                    assertScoresMatch(bowls, count + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays every combination of two legal Frames followed by every legal last Frame,
+     * including games where the last Frame is only partly played
+     */
+    @Test
+    void allLastFrameCombinationsTest() {
+        List<int[]> frames = legalFrames();
+        List<int[]> lastFrames = legalLastFrames();
+        int[] bowls = new int[21];
+        for (int[] eighth : frames) {
+            for (int[] ninth : frames) {
+                for (int[] last : lastFrames) {
+                    int count = put(bowls, 14, eighth);
+                    count = put(bowls, count, ninth);
+                    int end = put(bowls, count, last);
+                    for (int played = count; played <= end; played++) {
+                        assertScoresMatch(bowls, played);
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertScoresMatch(int[] bowls, int count) {
+        int[] game = Arrays.copyOf(bowls, count);
+        assertArrayEquals(Scorer.score(game), TableScorer.score(game));
+    }
+
+    private int put(int[] bowls, int count, int[] frame) {
+        System.arraycopy(frame, 0, bowls, count, frame.length);
+        return count + frame.length;
+    }
+
+    private List<int[]> legalFrames() {
+        List<int[]> frames = new ArrayList<>();
+        frames.add(new int[]{10});
+        for (int first = 0; first < 10; first++) {
+            for (int second = 0; second <= 10 - first; second++) {
+                frames.add(new int[]{first, second});
+            }
+        }
+        return frames;
+    }
+
+    private List<int[]> legalLastFrames() {
+        List<int[]> frames = new ArrayList<>();
+        for (int first = 0; first <= 10; first++) {
+            int secondPins = first == 10 ? 10 : 10 - first;
+            for (int second = 0; second <= secondPins; second++) {
+                if (first + second < 10) {
+                    frames.add(new int[]{first, second});
+                } else {
+                    int thirdPins = first == 10 && second != 10 ? 10 - second : 10;
+                    for (int third = 0; third <= thirdPins; third++) {
+                        frames.add(new int[]{first, second, third});
+                    }
+                }
+            }
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,296 @@
+package com.f8software.bowling.persistence;
+
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverFromLogTest() throws IOException {
+        try (GameJournal journal = open()) {
+            Player first = journal.newGame(1);
+            Player second = journal.newGame(2);
+            first.addBowl(10);
+            second.addBowl(3);
+            second.addBowl(9);
+            second.addBowl(4);
+            first.addBowl(5);
+        }
+        try (GameJournal journal = open()) {
+            Map<Long, Player> games = journal.getGames();
+            assertEquals(Arrays.asList(15, 20), games.get(1L).getScores());
+            assertEquals(Arrays.asList(7), games.get(2L).getScores());
+            // Recovered games carry on being journaled
+            games.get(2L).addBowl(6);
+        }
+        try (GameJournal journal = open()) {
+            assertEquals(Arrays.asList(7, 13), journal.getGames().get(2L).getScores());
+            assertThrows(IllegalStateException.class, () -> journal.newGame(2));
+        }
+    }
+
+    @Test
+    void recoverFromSnapshotTest() throws IOException {
+        try (GameJournal journal = open()) {
+            Player player = journal.newGame(7);
+            for (int i = 0; i < 6; i++) {
+                player.addBowl(10);
+            }
+            journal.snapshot();
+            for (int i = 0; i < 6; i++) {
+                player.addBowl(10);
+            }
+        }
+        try (GameJournal journal = open()) {
+            Player player = journal.getGames().get(7L);
+            assertEquals(300, player.getTotalScore());
+            assertTrue(player.isComplete());
+        }
+    }
+
+    @Test
+    void removeGameTest() throws IOException {
+        try (GameJournal journal = open()) {
+            Player removed = journal.newGame(1);
+            Player kept = journal.newGame(2);
+            removed.addBowl(10);
+            kept.addBowl(4);
+            journal.removeGame(1);
+            assertFalse(journal.getGames().containsKey(1L));
+            assertThrows(IllegalStateException.class, () -> removed.addBowl(3));
+            assertThrows(IllegalStateException.class, () -> journal.removeGame(1));
+            // The id can be used again
+            journal.newGame(1).addBowl(6);
+        }
+        try (GameJournal journal = open()) {
+            // The removal is replayed from the log
+            assertEquals(Arrays.asList(6), journal.getGames().get(1L).getScores());
+            journal.removeGame(1);
+            journal.snapshot();
+        }
+        try (GameJournal journal = open()) {
+            // And the removed game is not in the snapshot
+            assertEquals(1, journal.getGames().size());
+            assertEquals(Arrays.asList(4), journal.getGames().get(2L).getScores());
+        }
+    }
+
+    @Test
+    void crashBeforeLogRestartedTest() throws IOException {
+        Path log = directory.resolve(GameJournal.LOG_FILE);
+        Path oldLog = directory.resolve("old.wal");
+        try (GameJournal journal = open()) {
+            Player player = journal.newGame(1);
+            player.addBowl(3);
+            player.addBowl(4);
+            journal.commit();
+            Files.copy(log, oldLog);
+            journal.snapshot();
+        }
+        // The snapshot was written but the old log was never replaced
+        Files.copy(oldLog, log, StandardCopyOption.REPLACE_EXISTING);
+        try (GameJournal journal = open()) {
+            assertEquals(Arrays.asList(7), journal.getGames().get(1L).getScores());
+        }
+    }
+
+    @Test
+    void partialRecordTest() throws IOException {
+        try (GameJournal journal = open()) {
+            journal.newGame(1).addBowl(8);
+        }
+        Files.write(directory.resolve(GameJournal.LOG_FILE), new byte[]{0, 0, 0}, StandardOpenOption.APPEND);
+        try (GameJournal journal = open()) {
+            Player player = journal.getGames().get(1L);
+            player.addBowl(1);
+        }
+        try (GameJournal journal = open()) {
+            assertEquals(Arrays.asList(9), journal.getGames().get(1L).getScores());
+        }
+    }
+
+    @Test
+    void groupCommitTest() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, 4, 60_000, 0)) {
+            Player player = journal.newGame(1);
+            for (int i = 0; i < 9; i++) {
+                player.addBowl(1);
+            }
+            // Two full batches of four have been committed, the ninth bowl is pending
+            assertEquals(16 + 8 * 9, Files.size(directory.resolve(GameJournal.LOG_FILE)));
+        }
+        assertEquals(16 + 9 * 9, Files.size(directory.resolve(GameJournal.LOG_FILE)));
+    }
+
+    @Test
+    void failedCommitTest() throws IOException {
+        FailingChannel[] failing = new FailingChannel[1];
+        try (GameJournal journal = GameJournal.open(directory, 4, 60_000, 0)) {
+            journal.wrapLog(log -> failing[0] = new FailingChannel(log));
+            Player player = journal.newGame(1);
+            player.addBowl(10);
+            player.addBowl(3);
+            // Half the batch is written before the write fails
+            failing[0].failures = 1;
+            assertThrows(IOException.class, journal::commit);
+            player.addBowl(4);
+            journal.commit();
+            assertEquals(16 + 3 * 9, Files.size(directory.resolve(GameJournal.LOG_FILE)));
+        }
+        try (GameJournal journal = open()) {
+            assertEquals(Arrays.asList(17, 24), journal.getGames().get(1L).getScores());
+        }
+    }
+
+    @Test
+    void failingLogTest() throws IOException {
+        FailingChannel[] failing = new FailingChannel[1];
+        GameJournal journal = GameJournal.open(directory, 2, 60_000, 0);
+        journal.wrapLog(log -> failing[0] = new FailingChannel(log));
+        Player player = journal.newGame(1);
+        failing[0].failures = Integer.MAX_VALUE;
+        // Each full batch fails to commit but is held on to, until there is no room left
+        for (int i = 0; i < 4; i++) {
+            assertTrue(player.addBowl(1));
+        }
+        assertThrows(UncheckedIOException.class, () -> player.addBowl(1));
+        assertEquals(5, player.getSnapshot().getVersion());
+        failing[0].failures = 0;
+        journal.close();
+        try (GameJournal recovered = open()) {
+            // The bowl that could not be held was not journaled
+            assertEquals(4, recovered.getGames().get(1L).getSnapshot().getVersion());
+        }
+    }
+
+    private GameJournal open() throws IOException {
+        return GameJournal.open(directory, 64, 10, 0);
+    }
+
+    /**
+     * A log channel that writes half of the next write and then fails, while failures are left
+     */
+    static class FailingChannel extends FileChannel {
+        private final FileChannel delegate;
+        int failures;
+
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failures > 0) {
+                failures--;
+                ByteBuffer half = src.duplicate();
+                half.limit(src.position() + src.remaining() / 2);
+                src.position(src.position() + delegate.write(half));
+                throw new IOException("Disk full");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
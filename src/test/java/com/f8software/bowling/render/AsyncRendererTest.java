@@ -0,0 +1,92 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncRendererTest {
+
+    List<Integer> renderedTotals;
+    CountDownLatch release;
+    AsyncRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderedTotals = new CopyOnWriteArrayList<>();
+        release = new CountDownLatch(1);
+        renderer = new AsyncRenderer(player -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            renderedTotals.add(player.getSnapshot().getTotalScore());
+        }, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        renderer.close();
+    }
+
+    @Test
+    void latestSnapshotWinsTest() {
+        Player player = new Player(true);
+        for (int i = 0; i < 12; i++) {
+            player.addBowl(10);
+            renderer.render(player);
+        }
+        release.countDown();
+        renderer.close();
+
+        // The first render may have started before all the bowls, the rest are coalesced
+        assertTrue(renderedTotals.size() <= 2);
+        assertEquals(300, renderedTotals.get(renderedTotals.size() - 1));
+        assertEquals(12, renderer.getRenderedFrames() + renderer.getDroppedFrames());
+        assertEquals(0, renderer.getQueueDepth());
+        assertTrue(renderer.getMaxLatencyNanos() >= renderer.getAverageLatencyNanos());
+    }
+
+    @Test
+    void otherPlayersNeverDroppedTest() throws InterruptedException {
+        Player blocking = new Player(true);
+        renderer.render(blocking);
+        // Wait until the render thread has taken the first player
+        while (renderer.getQueueDepth() > 0) {
+            Thread.sleep(1);
+        }
+        for (int i = 0; i < 2; i++) {
+            Player player = new Player(true);
+            player.addBowl(i + 1);
+            renderer.render(player);
+        }
+        // The queue is full, so a third Player waits for room rather than replacing one
+        Player last = new Player(true);
+        last.addBowl(7);
+        Thread bowler = new Thread(() -> renderer.render(last));
+        bowler.start();
+        bowler.join(100);
+        assertTrue(bowler.isAlive());
+        assertEquals(2, renderer.getQueueDepth());
+        assertEquals(2, renderer.getMaxQueueDepth());
+
+        release.countDown();
+        bowler.join();
+        renderer.close();
+        assertEquals(List.of(0, 1, 2, 7), renderedTotals);
+        assertEquals(0, renderer.getDroppedFrames());
+    }
+
+    @Test
+    void requiresSnapshotsTest() {
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(new Player()));
+    }
+}
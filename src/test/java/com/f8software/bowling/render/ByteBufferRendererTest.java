@@ -0,0 +1,62 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferRendererTest {
+
+    ByteArrayOutputStream output;
+    ByteBufferRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        renderer = new ByteBufferRenderer(Channels.newChannel(output));
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void matchesStandardRendererTest() {
+        Random random = new Random(21);
+        for (int game = 0; game < 100; game++) {
+            Player player = new Player(game % 2 == 0);
+            while (!player.isComplete()) {
+                player.addBowl(random.nextInt(11));
+                output.reset();
+                renderer.render(player);
+                assertEquals(standardRender(player), output.toString(StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    @Test
+    void emptyScorecardTest() {
+        renderer.render(new Player());
+        assertEquals(standardRender(new Player()), output.toString(StandardCharsets.US_ASCII));
+    }
+
+    private String standardRender(Player player) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream standard = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(standard, true, StandardCharsets.US_ASCII));
+        try {
+            new StandardOutRenderer().render(player);
+        } finally {
+            System.setOut(original);
+        }
+        return standard.toString(StandardCharsets.US_ASCII).replace(System.lineSeparator(), "\n");
+    }
+}
@@ -0,0 +1,147 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiffRendererTest {
+
+    ByteArrayOutputStream output;
+    DiffRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        renderer = new DiffRenderer(new PrintStream(output, true, StandardCharsets.US_ASCII), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void firstRenderDrawsCardTest() {
+        Player player = new Player();
+        player.addBowl(3);
+        renderer.render(player);
+        String drawn = output.toString(StandardCharsets.US_ASCII);
+        assertTrue(drawn.contains(Cells.HEADER_ROW));
+        assertTrue(drawn.contains("\u001b[3;10H   3   "));
+        assertTrue(drawn.contains("\u001b[4;10H     3 "));
+    }
+
+    @Test
+    void onlyChangedCellsTest() {
+        Player player = new Player();
+        player.addBowl(10);
+        player.addBowl(3);
+        renderer.render(player);
+        output.reset();
+
+        player.addBowl(4);
+        renderer.render(player);
+        // The first frame's score, the second frame's bowls and score, then the cursor is parked
+        assertEquals("\u001b[4;10H    17 \u001b[3;17H   3 4 \u001b[4;17H    24 \u001b[6;1H",
+                output.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void unchangedRenderTest() {
+        Player player = new Player();
+        player.addBowl(5);
+        renderer.render(player);
+        output.reset();
+        renderer.render(player);
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void playersDrawnBelowEachOtherTest() {
+        Player first = new Player();
+        Player second = new Player();
+        renderer.render(first);
+        output.reset();
+        second.addBowl(1);
+        renderer.render(second);
+        assertTrue(output.toString(StandardCharsets.US_ASCII).contains("\u001b[8;10H   1   "));
+    }
+
+    @Test
+    void removedPlayerRowsReusedTest() {
+        Player first = new Player();
+        Player second = new Player();
+        renderer.render(first);
+        renderer.render(second);
+        output.reset();
+        renderer.remove(first);
+        String cleared = output.toString(StandardCharsets.US_ASCII);
+        assertTrue(cleared.contains("\u001b[1;1H\u001b[2K"));
+        assertTrue(cleared.contains("\u001b[5;1H\u001b[2K"));
+        assertFalse(cleared.contains("\u001b[6;1H\u001b[2K"));
+
+        // The next new Player takes the first scorecard's rows
+        output.reset();
+        Player third = new Player();
+        third.addBowl(2);
+        renderer.render(third);
+        assertTrue(output.toString(StandardCharsets.US_ASCII).contains("\u001b[3;10H   2   "));
+
+        // A removed Player rendered again is drawn as new below the others
+        output.reset();
+        first.addBowl(4);
+        renderer.render(first);
+        assertTrue(output.toString(StandardCharsets.US_ASCII).contains("\u001b[13;10H   4   "));
+    }
+
+    @Test
+    void concurrentRenderTest() throws Exception {
+        Thread[] lanes = new Thread[4];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Thread(() -> {
+                for (int j = 0; j < 50; j++) {
+                    Player player = new Player();
+                    player.addBowl(3);
+                    renderer.render(player);
+                }
+            });
+            lanes[i].start();
+        }
+        for (Thread lane : lanes) {
+            lane.join();
+        }
+        // Every Player from every thread was given its own scorecard, so the next one is drawn below all 200
+        output.reset();
+        Player next = new Player();
+        next.addBowl(2);
+        renderer.render(next);
+        assertTrue(output.toString(StandardCharsets.US_ASCII).contains("\u001b[1003;10H   2   "));
+    }
+
+    @Test
+    void cellsMatchStandardRendererTest() {
+        StandardOutRenderer standard = new StandardOutRenderer();
+        Random random = new Random(9);
+        for (int game = 0; game < 500; game++) {
+            Player player = new Player();
+            while (!player.isComplete()) {
+                player.addBowl(random.nextInt(11));
+                for (Frame frame : player.getFrames()) {
+                    StringBuilder expected = standard.renderBowls(new StringBuilder(), frame);
+                    StringBuilder actual = new StringBuilder();
+                    Cells.appendBowls(actual, frame);
+                    assertEquals(expected.toString(), actual.toString());
+                    assertEquals("   %3s ".formatted(frame.getScore()), Cells.scoreCell(frame.getScore()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.f8software.bowling.render;
+
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardRendererTest {
+
+    ByteArrayOutputStream output;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    @Test
+    void headerRenderedOnceTest() {
+        LeaderboardRenderer renderer = renderer(0);
+        Player first = new Player();
+        first.addBowl(10);
+        Player second = new Player();
+        second.addBowl(3);
+        second.addBowl(7);
+        renderer.render(Arrays.asList(first, second));
+
+        String[] lines = output.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(7, lines.length);
+        assertEquals("        " + Cells.HEADER_ROW, lines[1]);
+        assertEquals("Game 1  Bowls  :    X - ", lines[2]);
+        assertEquals("        Score  :     10 ", lines[3]);
+        assertEquals("Game 2  Bowls  :    3 / ", lines[4]);
+        assertEquals("        Score  :     10 ", lines[5]);
+    }
+
+    @Test
+    void updatesCoalescedTest() {
+        LeaderboardRenderer renderer = renderer(1);
+        Player player = new Player();
+        assertFalse(renderer.tick());
+        renderer.update(player);
+        assertTrue(renderer.tick());
+        // Further updates within the same second wait for the next frame
+        player.addBowl(4);
+        renderer.update(player);
+        player.addBowl(5);
+        renderer.update(player);
+        assertFalse(renderer.tick());
+    }
+
+    @Test
+    void unlimitedFrameRateTest() {
+        LeaderboardRenderer renderer = renderer(0);
+        Player player = new Player();
+        renderer.update(player);
+        assertTrue(renderer.tick());
+        assertFalse(renderer.tick());
+        renderer.update(player);
+        assertTrue(renderer.tick());
+    }
+
+    @Test
+    void removeTest() {
+        LeaderboardRenderer renderer = renderer(0);
+        Player first = new Player();
+        Player second = new Player();
+        second.addBowl(6);
+        renderer.update(first);
+        renderer.update(second);
+        assertTrue(renderer.tick());
+        output.reset();
+        renderer.remove(first);
+        assertTrue(renderer.tick());
+        String[] lines = output.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("Game 1  Bowls  :    6 ", lines[2]);
+        renderer.remove(first);
+        assertFalse(renderer.tick());
+    }
+
+    @Test
+    void concurrentRenderTest() throws Exception {
+        LeaderboardRenderer renderer = renderer(0);
+        Player player = new Player();
+        player.addBowl(7);
+        renderer.update(player);
+        Thread ticker = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                renderer.update(player);
+                renderer.tick();
+            }
+        });
+        ticker.start();
+        for (int i = 0; i < 2000; i++) {
+            renderer.render(Arrays.asList(player));
+        }
+        ticker.join();
+        // Every leaderboard is written whole, so the lines always come in the same order
+        String[] lines = output.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(0, lines.length % 5);
+        for (int i = 0; i < lines.length; i += 5) {
+            assertEquals("Game 1  Bowls  :    7 ", lines[i + 2]);
+            assertEquals(Cells.HORIZONTAL_LINE, lines[i + 4]);
+        }
+    }
+
+    private LeaderboardRenderer renderer(int maxFramesPerSecond) {
+        return new LeaderboardRenderer(new PrintStream(output, true, StandardCharsets.US_ASCII), maxFramesPerSecond);
+    }
+}
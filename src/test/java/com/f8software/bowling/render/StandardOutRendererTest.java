@@ -1,10 +1,14 @@
 package com.f8software.bowling.render;
 
 import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -108,6 +112,32 @@ class StandardOutRendererTest {
         assertEquals("   5 / ", playLastFrame(Arrays.asList(5, 5), isLast));
     }
 
+    @Test
+    void testProjectionRow() {
+        Player player = new Player();
+        player.addBowl(3);
+        player.addBowl(7);
+        player.addBowl(10);
+
+        String withoutRange = render(new StandardOutRenderer(), player);
+        String withRange = render(new StandardOutRenderer(true), player);
+        assertFalse(withoutRange.contains("Range"));
+        assertTrue(withRange.contains("Range  :    30 to 290\n"));
+        assertEquals(withoutRange, withRange.replace("Range  :    30 to 290\n", ""));
+    }
+
+    private String render(StandardOutRenderer standard, Player player) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true, StandardCharsets.US_ASCII));
+        try {
+            standard.render(player);
+        } finally {
+            System.setOut(original);
+        }
+        return output.toString(StandardCharsets.US_ASCII).replace(System.lineSeparator(), "\n");
+    }
+
     /**
      * Utility test method to play a frame of a game
      * @param bowls
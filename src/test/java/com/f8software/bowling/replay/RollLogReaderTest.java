@@ -0,0 +1,73 @@
+package com.f8software.bowling.replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollLogReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayTest() throws IOException {
+        Path log = directory.resolve("rolls.log");
+        try (RollLogWriter writer = new RollLogWriter(log)) {
+            // Two games played at the same time on different lanes
+            for (int i = 0; i < 12; i++) {
+                writer.write(1, 100, 10);
+                writer.write(2, 200, i % 2 == 0 ? 3 : 4);
+            }
+            writer.write(7, 300, new int[]{5, 5, 5, 5, 5}, 0, 5);
+        }
+
+        ScorecardRebuilder rebuilder = new ScorecardRebuilder();
+        long bowls = new RollLogReader().replay(log, rebuilder);
+
+        assertEquals(29, bowls);
+        assertEquals(3, rebuilder.getStore().size());
+        assertEquals(300, last(rebuilder, 1, 100));
+        assertEquals(Arrays.asList(7, 14, 21, 28, 35, 42), rebuilder.getStore().getScores(rebuilder.getGame(2, 200)));
+        assertEquals(Arrays.asList(15, 30, 35), rebuilder.getStore().getScores(rebuilder.getGame(7, 300)));
+        assertEquals(-1, rebuilder.getGame(7, 301));
+        assertEquals(0, rebuilder.getRejected());
+    }
+
+    @Test
+    void recordsAcrossRegionsTest() throws IOException {
+        Path log = directory.resolve("regions.log");
+        int games = 1000;
+        try (RollLogWriter writer = new RollLogWriter(log)) {
+            for (int game = 0; game < games; game++) {
+                writer.write(game % 48, game, new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10}, 0, 12);
+            }
+        }
+        ScorecardRebuilder rebuilder = new ScorecardRebuilder();
+        // A small region so that records fall across the end of a region
+        long bowls = new RollLogReader(300).replay(log, rebuilder);
+
+        assertEquals(games * 12L, bowls);
+        for (int game = 0; game < games; game++) {
+            assertEquals(300, last(rebuilder, game % 48, game));
+        }
+    }
+
+    @Test
+    void notARollLogTest() throws IOException {
+        Path file = directory.resolve("other.txt");
+        Files.writeString(file, "not a roll log");
+        assertThrows(IOException.class, () -> new RollLogReader().replay(file, (lane, game, bowl) -> { }));
+    }
+
+    private int last(ScorecardRebuilder rebuilder, int lane, int game) {
+        int[] scores = new int[10];
+        int frames = rebuilder.getStore().getScores(rebuilder.getGame(lane, game), scores);
+        return scores[frames - 1];
+    }
+}
@@ -0,0 +1,203 @@
+package com.f8software.bowling.server;
+
+import com.f8software.bowling.model.Frame;
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaneServerTest {
+
+    LaneServer server;
+    SocketChannel client;
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LaneServer(0);
+        client = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void pipelinedGameTest() throws IOException {
+        ByteBuffer bowls = ByteBuffer.allocate(13 * LaneProtocol.BOWL_SIZE);
+        for (int i = 0; i < 13; i++) {
+            putBowl(bowls, 7, 1, 10);
+        }
+        send(bowls);
+
+        byte[] results = readResults(0, 13);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(LaneProtocol.ACCEPTED, results[i]);
+        }
+        assertEquals(Frame.RejectReason.GAME_COMPLETE, LaneProtocol.reason(results[12]));
+        Player player = server.getPlayer(7, 1);
+        assertEquals(300, player.getTotalScore());
+        assertNull(server.getPlayer(7, 0));
+    }
+
+    @Test
+    void rejectionTest() throws IOException {
+        ByteBuffer bowls = ByteBuffer.allocate(4 * LaneProtocol.BOWL_SIZE);
+        putBowl(bowls, 1, 0, 4);
+        putBowl(bowls, 1, 0, 7);
+        putBowl(bowls, 1, 0, 200);
+        putBowl(bowls, 1, LaneProtocol.MAX_PLAYERS, 3);
+        send(bowls);
+
+        byte[] results = readResults(0, 4);
+        assertEquals(LaneProtocol.ACCEPTED, results[0]);
+        assertEquals(Frame.RejectReason.TOO_MANY_PINS, LaneProtocol.reason(results[1]));
+        assertEquals(Frame.RejectReason.TOO_MANY_PINS, LaneProtocol.reason(results[2]));
+        assertEquals(LaneProtocol.UNKNOWN_PLAYER, results[3]);
+        assertNull(LaneProtocol.reason(results[3]));
+        assertEquals(4, server.getPlayer(1, 0).getTotalScore());
+        assertEquals(1, server.getPlayer(1, 0).getFrames().size());
+    }
+
+    @Test
+    void splitRecordTest() throws IOException {
+        ByteBuffer bowls = ByteBuffer.allocate(2 * LaneProtocol.BOWL_SIZE);
+        putBowl(bowls, 2, 3, 5);
+        putBowl(bowls, 2, 3, 5);
+        bowls.flip();
+        // Send one and a half bowls, then the rest
+        bowls.limit(6);
+        while (bowls.hasRemaining()) {
+            client.write(bowls);
+        }
+        byte[] first = readResults(0, 1);
+        bowls.limit(8);
+        while (bowls.hasRemaining()) {
+            client.write(bowls);
+        }
+        byte[] second = readResults(1, 1);
+        assertEquals(LaneProtocol.ACCEPTED, first[0]);
+        assertEquals(LaneProtocol.ACCEPTED, second[0]);
+        assertTrue(server.getPlayer(2, 3).getFrames().get(0).isSpare());
+    }
+
+    @Test
+    void manyLanesTest() throws IOException {
+        int lanes = 500;
+        // Every lane plays an all spare game, sent in rounds of one bowl per lane
+        ByteBuffer bowls = ByteBuffer.allocate(lanes * 21 * LaneProtocol.BOWL_SIZE);
+        for (int round = 0; round < 21; round++) {
+            for (int lane = 0; lane < lanes; lane++) {
+                putBowl(bowls, lane, 0, 5);
+            }
+        }
+        send(bowls);
+        byte[] results = readResults(0, lanes * 21);
+        for (byte result : results) {
+            assertEquals(LaneProtocol.ACCEPTED, result);
+        }
+        for (int lane = 0; lane < lanes; lane++) {
+            assertEquals(150, server.getPlayer(lane, 0).getTotalScore());
+        }
+    }
+
+    @Test
+    void twoGamesOnOneLaneTest() throws IOException {
+        ByteBuffer bowls = ByteBuffer.allocate(36 * LaneProtocol.BOWL_SIZE);
+        for (int i = 0; i < 13; i++) {
+            putBowl(bowls, 4, 2, 10);
+        }
+        putBowl(bowls, 4, 2, LaneProtocol.NEW_GAME);
+        for (int i = 0; i < 21; i++) {
+            putBowl(bowls, 4, 2, 5);
+        }
+        putBowl(bowls, 4, 2, 5);
+        send(bowls);
+
+        byte[] results = readResults(0, 36);
+        assertEquals(Frame.RejectReason.GAME_COMPLETE, LaneProtocol.reason(results[12]));
+        for (int i = 13; i < 35; i++) {
+            assertEquals(LaneProtocol.ACCEPTED, results[i]);
+        }
+        assertEquals(Frame.RejectReason.GAME_COMPLETE, LaneProtocol.reason(results[35]));
+        assertEquals(150, server.getPlayer(4, 2).getTotalScore());
+    }
+
+    @Test
+    void unknownLaneTest() throws IOException {
+        ByteBuffer bowls = ByteBuffer.allocate(2 * LaneProtocol.BOWL_SIZE);
+        putBowl(bowls, LaneServer.DEFAULT_LANES, 0, 3);
+        putBowl(bowls, LaneServer.DEFAULT_LANES - 1, 0, 3);
+        send(bowls);
+
+        byte[] results = readResults(0, 2);
+        assertEquals(LaneProtocol.UNKNOWN_PLAYER, results[0]);
+        assertEquals(LaneProtocol.ACCEPTED, results[1]);
+        assertNull(server.getPlayer(LaneServer.DEFAULT_LANES, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LaneServer(0, 0));
+    }
+
+    @Test
+    void resultCodesTest() {
+        // The codes are part of the wire protocol so must never change
+        assertEquals(0, LaneProtocol.result(null));
+        assertEquals(1, LaneProtocol.result(Frame.RejectReason.NEGATIVE_PINS));
+        assertEquals(2, LaneProtocol.result(Frame.RejectReason.TOO_MANY_PINS));
+        assertEquals(3, LaneProtocol.result(Frame.RejectReason.FRAME_COMPLETE));
+        assertEquals(4, LaneProtocol.result(Frame.RejectReason.GAME_COMPLETE));
+        for (Frame.RejectReason reason : Frame.RejectReason.values()) {
+            assertEquals(reason, LaneProtocol.reason(LaneProtocol.result(reason)));
+        }
+        assertNull(LaneProtocol.reason(LaneProtocol.ACCEPTED));
+        assertNull(LaneProtocol.reason(LaneProtocol.UNKNOWN_PLAYER));
+    }
+
+    private void putBowl(ByteBuffer buffer, int lane, int player, int pins) {
+        buffer.putShort((short) lane).put((byte) player).put((byte) pins);
+    }
+
+    private void send(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            client.write(buffer);
+        }
+    }
+
+    /**
+     * Reads acks until the results for the bowls given have arrived, checking the acks
+     * arrive in order
+     */
+    private byte[] readResults(int first, int count) throws IOException {
+        byte[] results = new byte[count];
+        int received = 0;
+        ByteBuffer header = ByteBuffer.allocate(LaneProtocol.ACK_HEADER_SIZE);
+        while (received < count) {
+            header.clear();
+            readFully(header);
+            assertEquals(first + received, header.getInt());
+            int batch = header.getShort() & 0xFFFF;
+            ByteBuffer body = ByteBuffer.allocate(batch);
+            readFully(body);
+            body.get(results, received, batch);
+            received += batch;
+        }
+        assertEquals(count, received);
+        return results;
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (client.read(buffer) < 0) {
+                fail("Connection closed");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,243 @@
+package com.f8software.bowling.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringServerTest {
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    static {
+        // The launch flag the server needs, without it each request waits ~40ms on delayed acks
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    ScoringServer server;
+    HttpClient client;
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ScoringServer(0, 8);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void playGameTest() throws Exception {
+        long id = createGame();
+        for (int i = 0; i < 12; i++) {
+            assertEquals(200, bowl(id, 10).statusCode());
+        }
+        HttpResponse<String> rejected = bowl(id, 10);
+        assertEquals(422, rejected.statusCode());
+
+        HttpResponse<String> scorecard = get("/games/" + id);
+        assertEquals(200, scorecard.statusCode());
+        assertEquals("application/json", scorecard.headers().firstValue("Content-Type").orElse(""));
+        assertTrue(scorecard.body().startsWith("{\"id\":%s,\"complete\":true,\"total\":300,\"minPossible\":300,\"maxPossible\":300,\"frames\":[".formatted(id)));
+        assertTrue(scorecard.body().endsWith("{\"bowls\":[10,10,10],\"score\":300,\"state\":\"COMPLETE\",\"type\":\"STRIKE\"}]}"));
+        assertEquals(300, server.getGame(id).getTotalScore());
+    }
+
+    @Test
+    void scorecardTest() throws Exception {
+        long id = createGame();
+        bowl(id, 3);
+        HttpResponse<String> response = bowl(id, 7);
+        assertEquals("{\"id\":%s,\"complete\":false,\"total\":10,\"minPossible\":10,\"maxPossible\":290,\"frames\":[{\"bowls\":[3,7],\"score\":10,\"state\":\"COMPLETE\",\"type\":\"SPARE\"}]}".formatted(id),
+                response.body());
+        assertEquals(422, bowl(id, 11).statusCode());
+    }
+
+    @Test
+    void errorTest() throws Exception {
+        assertEquals(404, get("/games/99").statusCode());
+        assertEquals(400, get("/games/abc").statusCode());
+        assertEquals(405, get("/games").statusCode());
+        long id = createGame();
+        assertEquals(400, post("/games/" + id + "/bowls", "{\"pin\":3}").statusCode());
+        assertEquals(405, post("/games/" + id, "").statusCode());
+    }
+
+    @Test
+    void errorEscapedTest() {
+        assertEquals("{\"error\":\"Invalid game id a\\\"b\\\\c\\nd\\u0001\"}",
+                ScorecardJson.error("Invalid game id a\"b\\c\nd\u0001"));
+    }
+
+    @Test
+    void metricsTest() throws Exception {
+        long id = createGame();
+        bowl(id, 10);
+        bowl(id, 3);
+        bowl(id, 9);
+        HttpResponse<String> metrics = get("/metrics");
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+        assertTrue(metrics.body().contains("\nbowling_bowls_accepted_total 2\n"));
+        assertTrue(metrics.body().contains("\nbowling_bowls_rejected_total{reason=\"too_many_pins\"} 1\n"));
+        assertTrue(metrics.body().contains("\nbowling_frames_completed_total{type=\"strike\"} 1\n"));
+        // Writing the scorecard JSON is not a render
+        assertTrue(metrics.body().contains("\nbowling_render_seconds_count 0\n"));
+    }
+
+    @Test
+    void eventStreamTest() throws Exception {
+        long id = createGame();
+        bowl(id, 10);
+        CompletableFuture<HttpResponse<Stream<String>>> stream = client.sendAsync(
+                HttpRequest.newBuilder(uri("/games/" + id + "/events")).GET().build(), HttpResponse.BodyHandlers.ofLines());
+        HttpResponse<Stream<String>> response = stream.get(5, TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode());
+        assertEquals("text/event-stream", response.headers().firstValue("Content-Type").orElse(""));
+
+        // The stream ends once the game is complete
+        CompletableFuture<List<String>> lines = CompletableFuture.supplyAsync(() -> response.body().collect(Collectors.toList()));
+        for (int i = 0; i < 11; i++) {
+            bowl(id, 10);
+        }
+        List<String> events = lines.get(5, TimeUnit.SECONDS).stream()
+                .filter(line -> line.startsWith("event:") || line.startsWith("data:"))
+                .collect(Collectors.toList());
+        assertEquals("event: scorecard", events.get(0));
+        assertTrue(events.get(1).startsWith("data: {\"id\":%s,\"complete\":false,\"total\":10".formatted(id)));
+        assertEquals("event: update", events.get(2));
+        assertEquals("data: {\"id\":%s,\"version\":2,\"frame\":1,\"bowl\":10,\"frameBowls\":[10],\"firstChangedFrame\":0,\"scores\":[20,30],\"complete\":false}".formatted(id),
+                events.get(3));
+        assertEquals(24, events.size());
+        assertTrue(events.get(23).endsWith("\"firstChangedFrame\":9,\"scores\":[300],\"complete\":true}"));
+        assertEquals(0, server.getFeed().getSubscriberCount());
+    }
+
+    @Test
+    void streamsDoNotHoldRequestThreadsTest() throws Exception {
+        server.close();
+        server = new ScoringServer(0, 2);
+        long id = createGame();
+        // More displays than request threads
+        List<CompletableFuture<List<String>>> displays = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            HttpResponse<Stream<String>> response = client.sendAsync(
+                    HttpRequest.newBuilder(uri("/games/" + id + "/events")).GET().build(), HttpResponse.BodyHandlers.ofLines())
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals(200, response.statusCode());
+            displays.add(CompletableFuture.supplyAsync(() -> response.body().collect(Collectors.toList())));
+        }
+        // The game can still be bowled to the end, which ends every stream
+        for (int i = 0; i < 12; i++) {
+            assertEquals(200, bowl(id, 10).statusCode());
+        }
+        for (CompletableFuture<List<String>> display : displays) {
+            List<String> lines = display.get(5, TimeUnit.SECONDS);
+            assertTrue(lines.get(lines.size() - 2).endsWith("\"scores\":[300],\"complete\":true}"));
+        }
+    }
+
+    /**
+     * Drives the server from several client threads, each playing its own games bowl by bowl,
+     * reading the scorecard after every bowl and deleting each game once it is over.
+     * The throughput and latency are measured by ScoringServerBenchmark.
+     */
+    @Test
+    void concurrentGamesTest() throws Exception {
+        int clients = 8;
+        int gamesPerClient = 10;
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            results.add(pool.submit(() -> {
+                int played = 0;
+                for (int game = 0; game < gamesPerClient; game++) {
+                    long id = createGame();
+                    for (int i = 0; i < 21; i++) {
+                        assertEquals(200, bowl(id, 5).statusCode());
+                        assertEquals(200, get("/games/" + id).statusCode());
+                    }
+                    assertEquals(150, server.getGame(id).getTotalScore());
+                    assertEquals(200, delete("/games/" + id).statusCode());
+                    played++;
+                }
+                return played;
+            }));
+        }
+        for (Future<Integer> result : results) {
+            assertEquals(gamesPerClient, result.get());
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    void deleteGameTest() throws Exception {
+        long id = createGame();
+        bowl(id, 4);
+        HttpResponse<String> deleted = delete("/games/" + id);
+        assertEquals(200, deleted.statusCode());
+        assertTrue(deleted.body().startsWith("{\"id\":%s,\"complete\":false,\"total\":4,".formatted(id)));
+        assertNull(server.getGame(id));
+        assertEquals(404, get("/games/" + id).statusCode());
+        assertEquals(404, delete("/games/" + id).statusCode());
+    }
+
+    @Test
+    void maxGamesTest() throws Exception {
+        server.close();
+        server = new ScoringServer(0, 8, 2);
+        long first = createGame();
+        createGame();
+        assertEquals(503, post("/games", "").statusCode());
+        // Deleting a game makes room for another
+        delete("/games/" + first);
+        createGame();
+    }
+
+    private long createGame() throws Exception {
+        HttpResponse<String> response = post("/games", "");
+        assertEquals(201, response.statusCode());
+        Matcher matcher = ID.matcher(response.body());
+        assertTrue(matcher.find());
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private HttpResponse<String> bowl(long id, int pins) throws Exception {
+        return post("/games/" + id + "/bowls", "{\"pins\":" + pins + "}");
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> delete(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).DELETE().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:%s%s".formatted(server.getPort(), path));
+    }
+}
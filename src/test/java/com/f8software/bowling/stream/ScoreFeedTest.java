@@ -0,0 +1,147 @@
+package com.f8software.bowling.stream;
+
+import com.f8software.bowling.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreFeedTest {
+
+    ScoreFeed feed;
+    Player player;
+    @BeforeEach
+    void setUp() {
+        feed = new ScoreFeed();
+        player = new Player();
+        feed.publish(1, 5, player);
+    }
+
+    @Test
+    void updateTest() {
+        Subscription subscription = feed.subscribeGame(1, 16);
+        player.addBowl(10);
+        player.addBowl(10);
+        player.addBowl(4);
+
+        List<ScoreUpdate> updates = new ArrayList<>();
+        assertEquals(3, subscription.drainTo(updates));
+        ScoreUpdate update = updates.get(2);
+        assertEquals(1, update.getGame());
+        assertEquals(5, update.getLane());
+        assertEquals(3, update.getVersion());
+        assertEquals(4, update.getBowl());
+        assertEquals(2, update.getFrame());
+        assertEquals(1, update.getFrameBowlCount());
+        assertEquals(4, update.getFrameBowl(0));
+        assertEquals(0, update.getFirstChangedFrame());
+        assertEquals(3, update.getChangedFrameCount());
+        assertEquals(24, update.getScore(0));
+        assertEquals(38, update.getScore(1));
+        assertEquals(42, update.getTotalScore());
+        assertFalse(update.isComplete());
+        assertEquals(0, subscription.getDropped());
+    }
+
+    @Test
+    void changedFramesTest() {
+        Subscription subscription = feed.subscribeGame(1, 32);
+        for (int i = 0; i < 21; i++) {
+            player.addBowl(5);
+        }
+        ScoreUpdate last = null;
+        ScoreUpdate update;
+        while ((update = subscription.poll()) != null) {
+            assertTrue(update.getChangedFrameCount() <= 3);
+            last = update;
+        }
+        assertEquals(9, last.getFirstChangedFrame());
+        assertEquals(9, last.getFrame());
+        assertEquals(3, last.getFrameBowlCount());
+        assertEquals(150, last.getTotalScore());
+        assertTrue(last.isComplete());
+    }
+
+    @Test
+    void dropOldestTest() {
+        Subscription subscription = feed.subscribeGame(1, 2);
+        for (int i = 0; i < 5; i++) {
+            player.addBowl(1);
+        }
+        assertEquals(3, subscription.getDropped());
+        assertEquals(2, subscription.getBuffered());
+        assertEquals(4, subscription.poll().getVersion());
+        assertEquals(5, subscription.poll().getVersion());
+    }
+
+    @Test
+    void dropNewestTest() {
+        Subscription subscription = feed.subscribeGame(1, 2, Subscription.Overflow.DROP_NEWEST);
+        for (int i = 0; i < 5; i++) {
+            player.addBowl(1);
+        }
+        assertEquals(3, subscription.getDropped());
+        assertEquals(1, subscription.poll().getVersion());
+        assertEquals(2, subscription.poll().getVersion());
+    }
+
+    @Test
+    void laneTest() {
+        Player other = new Player();
+        feed.publish(2, 5, other);
+        Player elsewhere = new Player();
+        feed.publish(3, 6, elsewhere);
+        Subscription lane = feed.subscribeLane(5, 16);
+        Subscription game = feed.subscribeGame(2, 16);
+
+        player.addBowl(3);
+        other.addBowl(4);
+        elsewhere.addBowl(5);
+
+        assertEquals(1, lane.poll().getGame());
+        assertEquals(2, lane.poll().getGame());
+        assertNull(lane.poll());
+        assertEquals(4, game.poll().getBowl());
+        assertNull(game.poll());
+    }
+
+    @Test
+    void closeTest() throws InterruptedException {
+        Subscription first = feed.subscribeGame(1, 4);
+        Subscription second = feed.subscribeLane(5, 4);
+        assertEquals(2, feed.getSubscriberCount());
+        first.close();
+        first.close();
+        assertTrue(first.isClosed());
+        assertEquals(1, feed.getSubscriberCount());
+
+        player.addBowl(7);
+        assertNull(first.poll(10, TimeUnit.MILLISECONDS));
+        assertEquals(7, second.poll(10, TimeUnit.MILLISECONDS).getBowl());
+        second.close();
+        assertEquals(0, feed.getSubscriberCount());
+        assertThrows(IllegalArgumentException.class, () -> feed.subscribeGame(1, 0));
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void slowSubscriberTest() throws InterruptedException {
+        // A subscriber that never reads cannot hold up scoring on another thread
+        Subscription slow = feed.subscribeGame(1, 1);
+        Thread scorer = new Thread(() -> {
+            for (int i = 0; i < 20; i++) {
+                player.addBowl(0);
+            }
+        });
+        scorer.start();
+        scorer.join(5000);
+        assertFalse(scorer.isAlive());
+        assertTrue(player.isComplete());
+        assertEquals(19, slow.getDropped());
+        assertTrue(slow.poll().isComplete());
+    }
+}